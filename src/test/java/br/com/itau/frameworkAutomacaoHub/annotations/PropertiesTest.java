@@ -8,16 +8,28 @@ import java.lang.annotation.Target;
 
 import br.com.itau.frameworkAutomacaoHub.enums.Browsers;
 
+/**
+ * Configura o navegador utilizado pelos cenários de um runner, sobrepondo as
+ * flags globais do {@code options.properties}.
+ * <p>
+ * Runners com anotações diferentes podem ser executados em paralelo na mesma
+ * JVM.
+ * <p>
+ * Cada atributo é opcional: o que não for informado segue a flag global, ex.:
+ * {@code @PropertiesTest(browser = Browsers.FIREFOX)} muda apenas o navegador.
+ *
+ * @see br.com.itau.frameworkAutomacaoHub.core.RunConfig
+ */
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
 public @interface PropertiesTest {
 
-	boolean close() default false;
+	boolean[] close() default {};
 
-	boolean headless() default false;
+	boolean[] headless() default {};
 
-	boolean grid() default false;
+	boolean[] grid() default {};
 
-	Browsers browser() default Browsers.CHROME;
+	Browsers[] browser() default {};
 }
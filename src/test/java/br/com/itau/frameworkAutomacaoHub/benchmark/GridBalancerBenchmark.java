@@ -0,0 +1,175 @@
+package br.com.itau.frameworkAutomacaoHub.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.json.Json;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import br.com.itau.frameworkAutomacaoHub.core.GridBalancer;
+import br.com.itau.frameworkAutomacaoHub.core.Properties;
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+
+/**
+ * <p>
+ * Exercita o {@link GridBalancer} contra hubs simulados locais, sem navegador:
+ * cada hub responde ao {@code /status} do Grid 4 com os seus slots e cria
+ * sessões falsas com latência artificial. Um dos hubs recusa todas as sessões
+ * para forçar a troca de hub.
+ * <p>
+ * Todas as threads pedem a sessão ao mesmo tempo, com o status em cache, e ao
+ * final é exibida a distribuição das sessões por hub. Execução:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=br.com.itau.frameworkAutomacaoHub.benchmark.GridBalancerBenchmark
+ * </pre>
+ */
+public class GridBalancerBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(GridBalancerBenchmark.class.getSimpleName());
+
+    private static final Json JSON = new Json();
+
+    private static final int THREADS = 12;
+
+    public static void main(String[] args) throws Exception {
+        List<StubHub> stubs = List.of(new StubHub(4, false), new StubHub(4, false), new StubHub(8, true));
+        List<String> urls = new ArrayList<>();
+        stubs.forEach(stub -> urls.add(stub.url()));
+
+        Properties.GRID_URLS = urls;
+        Properties.GRID_STATUS_TTL = 60_000;
+
+        ExecutorService threads = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<WebDriver>> sessions = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                sessions.add(threads.submit(() -> {
+                    start.await();
+                    return GridBalancer.newSession(new ChromeOptions());
+                }));
+            }
+            start.countDown();
+
+            for (Future<WebDriver> session : sessions)
+                session.get().quit();
+
+            for (StubHub stub : stubs)
+                log.info("%s - slots: %d, sessões criadas: %d, recusadas: %d",
+                        stub.url(), stub.slots, stub.created.get(), stub.refused.get());
+            log.info(GridBalancer.summary());
+
+        } finally {
+            threads.shutdownNow();
+            stubs.forEach(StubHub::stop);
+            Logger.flush(5000);
+        }
+    }
+
+    /**
+     * Hub simulado com {@code slots} slots; com {@code failing} recusa todas as
+     * sessões, mas informa slots livres no status.
+     */
+    private static class StubHub {
+
+        private final int slots;
+        private final boolean failing;
+        private final HttpServer server;
+        private final ExecutorService executor = Executors.newCachedThreadPool();
+        private final Set<String> active = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger refused = new AtomicInteger();
+
+        StubHub(int slots, boolean failing) throws IOException {
+            this.slots = slots;
+            this.failing = failing;
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(executor);
+            server.createContext("/", this::handle);
+            server.start();
+        }
+
+        String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/wd/hub";
+        }
+
+        void stop() {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+
+            if (path.equals("/status")) {
+                respond(exchange, 200, Map.of("value", Map.of("ready", true, "nodes", List.of(node()))));
+
+            } else if ("POST".equals(method) && path.endsWith("/session")) {
+                exchange.getRequestBody().readAllBytes();
+                if (failing) {
+                    refused.incrementAndGet();
+                    respond(exchange, 500, Map.of("value", Map.of("error", "session not created", "message", "Hub simulado indisponível")));
+                    return;
+                }
+                sleep(300);
+                String id = UUID.randomUUID().toString();
+                active.add(id);
+                created.incrementAndGet();
+                respond(exchange, 200, Map.of("value", Map.of("sessionId", id, "capabilities", Map.of("browserName", "chrome"))));
+
+            } else if ("DELETE".equals(method) && path.contains("/session/")) {
+                active.remove(path.substring(path.lastIndexOf('/') + 1));
+                respond(exchange, 200, Map.of("value", Map.of()));
+
+            } else {
+                respond(exchange, 404, Map.of("value", Map.of("error", "unknown command", "message", path)));
+            }
+        }
+
+        private Map<String, Object> node() {
+            List<Map<String, Object>> list = new ArrayList<>();
+            int busy = active.size();
+            for (int i = 0; i < slots; i++)
+                list.add(i < busy ? Map.of("session", Map.of("sessionId", "busy-" + i)) : Map.of());
+            return Map.of("availability", "UP", "slots", list);
+        }
+
+        private static void respond(HttpExchange exchange, int status, Map<String, Object> body) throws IOException {
+            byte[] bytes = JSON.toJson(body).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+
+        private static void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
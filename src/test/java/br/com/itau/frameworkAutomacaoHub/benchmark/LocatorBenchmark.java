@@ -0,0 +1,111 @@
+package br.com.itau.frameworkAutomacaoHub.benchmark;
+
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import br.com.itau.frameworkAutomacaoHub.core.Properties;
+import br.com.itau.frameworkAutomacaoHub.core.RunConfig;
+import br.com.itau.frameworkAutomacaoHub.core.interaction.LocatorFactory;
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+
+/**
+ * <p>
+ * Compara o custo dos seletores montados pelo {@link LocatorFactory} com os
+ * XPath de documento inteiro usados antes pelo {@code IClick}, em uma página com
+ * cerca de 15 mil linhas ({@code benchmark/large-dom.html}).
+ * <p>
+ * Mede a montagem do seletor na JVM e o tempo da busca dentro do navegador,
+ * sem a latência do protocolo. Execução:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=br.com.itau.frameworkAutomacaoHub.benchmark.LocatorBenchmark
+ * </pre>
+ */
+public class LocatorBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(LocatorBenchmark.class.getSimpleName());
+
+    private static final int BUILD_ITERATIONS = 1_000_000;
+    private static final int QUERY_ITERATIONS = 50;
+
+    private static final String QUERY_SCRIPT =
+            "var strategy = arguments[0], value = arguments[1], iterations = arguments[2];"
+            + "var start = performance.now(), found = null;"
+            + "for (var i = 0; i < iterations; i++) {"
+            + "  found = strategy === 'css' ? document.querySelector(value)"
+            + "    : document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+            + "}"
+            + "return found ? (performance.now() - start) / iterations : -1;";
+
+    public static void main(String[] args) throws Exception {
+        build();
+        query();
+        Logger.flush(5000);
+    }
+
+    private static void build() {
+        String text = "Item 4999";
+
+        long start = System.nanoTime();
+        int sink = 0;
+        for (int i = 0; i < BUILD_ITERATIONS; i++)
+            sink += By.xpath(String.format("//*[contains(text(), '%s')]", text)).hashCode();
+        long format = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < BUILD_ITERATIONS; i++)
+            sink += LocatorFactory.byText(text).hashCode();
+        long factory = System.nanoTime() - start;
+
+        log.info("Montagem do seletor (%d iterações, %d) - String.format: %d ns/op, LocatorFactory: %d ns/op",
+                BUILD_ITERATIONS, sink & 1, format / BUILD_ITERATIONS, factory / BUILD_ITERATIONS);
+    }
+
+    private static void query() {
+        URL fixture = LocatorBenchmark.class.getClassLoader().getResource("benchmark/large-dom.html");
+        RunConfig config = new RunConfig(true, true, false, Properties.BROWSER);
+        WebDriver driver = config.getBrowser().newDriver(config);
+
+        try {
+            driver.get(fixture.toString() + "?sections=50&rows=300");
+
+            Map<String, String[]> cases = new LinkedHashMap<>();
+            cases.put("XPath texto, documento inteiro", new String[] { "xpath", "//*[contains(text(), 'Item 14999')]" });
+            cases.put("XPath texto, escopo da seção", new String[] { "xpath", "//section[@id='section-49']//*[contains(text(), 'Item 14999')]" });
+            cases.put("XPath atributo, documento inteiro", new String[] { "xpath", "//*[@data-testid='button-14999']" });
+            cases.put("CSS atributo, documento inteiro", new String[] { "css", "[data-testid=\"button-14999\"]" });
+            cases.put("CSS atributo, escopo da seção", new String[] { "css", "[id=\"section-49\"] [data-testid=\"button-14999\"]" });
+            cases.put("XPath literal com aspas (concat)", new String[] { "xpath",
+                    "//*[contains(text(), " + LocatorFactory.literal("Editar \"item\" d'água 14999") + ")]" });
+
+            cases.forEach((name, query) -> {
+                Object millis = ((JavascriptExecutor) driver).executeScript(QUERY_SCRIPT, query[0], query[1], QUERY_ITERATIONS);
+                log.info("%-36s %8.3f ms/busca", name, ((Number) millis).doubleValue());
+            });
+
+            By[] locators = {
+                    By.xpath("//*[contains(text(), 'Item 14999')]"),
+                    LocatorFactory.byText(By.id("section-49"), "Item 14999"),
+                    LocatorFactory.byAttribute("data-testid", "button-14999"),
+                    LocatorFactory.byAttribute(By.id("section-49"), "data-testid", "button-14999")
+            };
+            for (By by : locators) {
+                long start = System.nanoTime();
+                for (int i = 0; i < QUERY_ITERATIONS; i++)
+                    driver.findElement(by);
+                log.info("findElement %-60s %6d ms/busca", by, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) / QUERY_ITERATIONS);
+            }
+
+        } finally {
+            driver.quit();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.itau.frameworkAutomacaoHub.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import br.com.itau.frameworkAutomacaoHub.core.BrowserOptions;
+import br.com.itau.frameworkAutomacaoHub.core.Properties;
+import br.com.itau.frameworkAutomacaoHub.core.RunConfig;
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+import br.com.itau.frameworkAutomacaoHub.enums.BrowserProfile;
+
+/**
+ * <p>
+ * Compara o tempo de carregamento de página de cada {@link BrowserProfile
+ * perfil} em um site estático local ({@code benchmark/site}), com 36 imagens,
+ * 3 fontes e 2 scripts de terceiros servidos com latência artificial.
+ * <p>
+ * Cada perfil abre um navegador headless do {@code BROWSER} configurado e
+ * carrega a página várias vezes, sem cache. Execução:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=br.com.itau.frameworkAutomacaoHub.benchmark.PageLoadBenchmark
+ * </pre>
+ */
+public class PageLoadBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(PageLoadBenchmark.class.getSimpleName());
+
+    private static final int RUNS = 10;
+
+    private static final Map<String, Asset> ASSETS = Map.of(
+            "/img/", new Asset("image/jpeg", 200 * 1024, 30),
+            "/fonts/", new Asset("font/woff2", 150 * 1024, 80),
+            "/third-party/", new Asset("application/javascript", 0, 400));
+
+    private static final String TIMING_SCRIPT =
+            "var nav = performance.getEntriesByType('navigation')[0];"
+            + "if (!nav || !nav.loadEventEnd) return null;"
+            + "return [nav.domContentLoadedEventEnd, nav.loadEventEnd, performance.getEntriesByType('resource').length];";
+
+    public static void main(String[] args) throws Exception {
+        HttpServer server = start();
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/index.html";
+
+        try {
+            for (BrowserProfile profile : BrowserProfile.values())
+                measure(profile, url);
+        } finally {
+            server.stop(0);
+            Logger.flush(5000);
+        }
+    }
+
+    private static void measure(BrowserProfile profile, String url) throws InterruptedException {
+        Properties.PROFILE = profile;
+        RunConfig config = new RunConfig(true, true, false, Properties.BROWSER);
+        WebDriver driver = config.getBrowser().newDriver(config);
+        BrowserOptions.afterStart(driver);
+
+        List<Double> domReady = new ArrayList<>();
+        List<Double> load = new ArrayList<>();
+        long resources = 0;
+        try {
+            for (int run = 0; run < RUNS; run++) {
+                driver.get(url + "?run=" + profile + run);
+
+                List<?> timing = null;
+                long deadline = System.currentTimeMillis() + 30000;
+                while (timing == null && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(20);
+                    timing = (List<?>) ((JavascriptExecutor) driver).executeScript(TIMING_SCRIPT);
+                }
+                if (timing == null)
+                    throw new IllegalStateException("A página não terminou de carregar: " + url);
+
+                domReady.add(((Number) timing.get(0)).doubleValue());
+                load.add(((Number) timing.get(1)).doubleValue());
+                resources = ((Number) timing.get(2)).longValue();
+            }
+        } finally {
+            driver.quit();
+        }
+
+        log.info("%-8s DOMContentLoaded mediana: %7.1f ms, load mediana: %7.1f ms, load p90: %7.1f ms, recursos carregados: %d",
+                profile, percentile(domReady, 50), percentile(load, 50), percentile(load, 90), resources);
+    }
+
+    private static HttpServer start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(16));
+        server.createContext("/", PageLoadBenchmark::serve);
+        server.start();
+        return server;
+    }
+
+    private static void serve(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String query = exchange.getRequestURI().getQuery();
+
+        try {
+            if ("/index.html".equals(path)) {
+                String run = query != null && query.startsWith("run=") ? query.substring(4) : "0";
+                send(exchange, "text/html; charset=UTF-8", page().replace("${run}", run).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            for (Map.Entry<String, Asset> entry : ASSETS.entrySet()) {
+                if (path.startsWith(entry.getKey())) {
+                    Asset asset = entry.getValue();
+                    Thread.sleep(asset.latencyMillis);
+                    send(exchange, asset.contentType, asset.body);
+                    return;
+                }
+            }
+
+            exchange.sendResponseHeaders(404, -1);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void send(HttpExchange exchange, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static String page() throws IOException {
+        try (InputStream in = PageLoadBenchmark.class.getClassLoader().getResourceAsStream("benchmark/site/index.html")) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static double percentile(List<Double> values, int percentile) {
+        List<Double> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+
+    private static class Asset {
+        private final String contentType;
+        private final byte[] body;
+        private final long latencyMillis;
+
+        Asset(String contentType, int size, long latencyMillis) {
+            this.contentType = contentType;
+            this.body = new byte[size];
+            this.latencyMillis = latencyMillis;
+        }
+    }
+}
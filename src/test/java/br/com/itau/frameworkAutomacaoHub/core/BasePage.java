@@ -1,12 +1,21 @@
 package br.com.itau.frameworkAutomacaoHub.core;
 
 import br.com.itau.frameworkAutomacaoHub.core.interaction.Interactions;
+import br.com.itau.frameworkAutomacaoHub.core.interaction.Readiness;
 import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
 import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
 
 /**
  * Uma classe base para todos os PageObjects.
+ * <p>
+ * PageObjects que leem os mesmos elementos repetidas vezes podem habilitar o
+ * cache de elementos com {@code super(true)}.
+ * <p>
+ * A condição de carregamento padrão ({@code READINESS}) pode ser trocada por
+ * página, ex.: {@code super(Readiness.angular().and(Readiness.networkIdle()))}.
  *
+ * @see br.com.itau.frameworkAutomacaoHub.core.interaction.ElementCache
+ * @see Readiness
  */
 public abstract class BasePage {
 
@@ -15,7 +24,20 @@ public abstract class BasePage {
     protected final Logger log = getLogger();
 
     public BasePage() {
-        interactions = new Interactions();
+        this(false);
+    }
+
+    protected BasePage(boolean cacheElements) {
+        interactions = new Interactions(cacheElements);
+    }
+
+    protected BasePage(Readiness readiness) {
+        this(false, readiness);
+    }
+
+    protected BasePage(boolean cacheElements, Readiness readiness) {
+        this(cacheElements);
+        interactions.setReadiness(readiness);
     }
 
     public final Logger getLogger() {
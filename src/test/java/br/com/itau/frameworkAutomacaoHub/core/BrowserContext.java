@@ -0,0 +1,198 @@
+package br.com.itau.frameworkAutomacaoHub.core;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+import br.com.itau.frameworkAutomacaoHub.core.report.RunReport;
+
+/**
+ * <p>
+ * Limpa o estado do navegador entre cenários sem reiniciar o processo:
+ * alerts abertos, guias extras, frames, cookies, local/session storage,
+ * IndexedDB, service workers e Cache Storage.
+ * <p>
+ * No Chrome o storage de todas as origens visitadas pelo cenário, registradas
+ * por {@link #visited(WebDriver, String)}, e os cookies de todos os domínios
+ * são removidos pelo DevTools ({@code Storage.clearDataForOrigin}). Nos demais
+ * navegadores apenas a origem da página atual, a última visitada, e os cookies
+ * do domínio atual são limpos; o isolamento não equivale a um navegador novo.
+ */
+public final class BrowserContext {
+
+	private static final Logger log = LoggerFactory.getLogger(BrowserContext.class.getSimpleName());
+
+	private static final String CLEAR_SCRIPT =
+			"var done = arguments[arguments.length - 1], finished = false;"
+			+ "function finish(result) { if (!finished) { finished = true; done(result); } }"
+			+ "setTimeout(function () { finish(false); }, 2000);"
+			+ "try { window.localStorage.clear(); } catch (e) {}"
+			+ "try { window.sessionStorage.clear(); } catch (e) {}"
+			+ "var tasks = [];"
+			+ "try {"
+			+ "  if (window.indexedDB && indexedDB.databases)"
+			+ "    tasks.push(indexedDB.databases().then(function (dbs) {"
+			+ "      return Promise.all(dbs.map(function (db) {"
+			+ "        return new Promise(function (resolve) {"
+			+ "          var request = indexedDB.deleteDatabase(db.name);"
+			+ "          request.onsuccess = request.onerror = request.onblocked = resolve;"
+			+ "        });"
+			+ "      }));"
+			+ "    }));"
+			+ "  if (navigator.serviceWorker && navigator.serviceWorker.getRegistrations)"
+			+ "    tasks.push(navigator.serviceWorker.getRegistrations().then(function (registrations) {"
+			+ "      return Promise.all(registrations.map(function (r) { return r.unregister(); }));"
+			+ "    }));"
+			+ "  if (window.caches && caches.keys)"
+			+ "    tasks.push(caches.keys().then(function (keys) {"
+			+ "      return Promise.all(keys.map(function (k) { return caches.delete(k); }));"
+			+ "    }));"
+			+ "} catch (e) {}"
+			+ "Promise.all(tasks.map(function (t) { return t.catch(function () {}); }))"
+			+ "  .then(function () { finish(true); }, function () { finish(false); });";
+
+	/** Origens visitadas por navegador desde a última limpeza. */
+	private static final Map<WebDriver, Set<String>> origins = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private static final LongAdder resets = new LongAdder();
+	private static final LongAdder failures = new LongAdder();
+	private static final LongAdder resetNanos = new LongAdder();
+	private static final LongAccumulator maxResetNanos = new LongAccumulator(Long::max, 0);
+
+	static {
+		RunReport.register("Reinício de contexto do navegador", BrowserContext::summary);
+	}
+
+	private BrowserContext() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> registra a origem de um endereço acessado, para
+	 * que o seu storage seja limpo no próximo {@link #reset(WebDriver)}.
+	 *
+	 * @param driver é o {@link WebDriver driver}.
+	 * @param url    é o {@link String endereço} acessado.
+	 */
+	public static void visited(WebDriver driver, String url) {
+		String origin = originOf(url);
+		if (origin != null)
+			origins.computeIfAbsent(driver, d -> Collections.synchronizedSet(new LinkedHashSet<>())).add(origin);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> limpa o estado do navegador e o deixa em
+	 * {@code about:blank}, pronto para o próximo cenário.
+	 *
+	 * @param driver é o {@link WebDriver driver}.
+	 * @throws WebDriverException caso o navegador não responda; nesse caso ele
+	 *                            deve ser descartado.
+	 */
+	public static void reset(WebDriver driver) {
+		long start = System.nanoTime();
+		try {
+			dismissAlerts(driver);
+			closeExtraTabs(driver);
+			driver.switchTo().defaultContent();
+			visited(driver, driver.getCurrentUrl());
+
+			Object cleared = ((JavascriptExecutor) driver).executeAsyncScript(CLEAR_SCRIPT);
+			if (!Boolean.TRUE.equals(cleared))
+				log.warn("Método: reset() - O storage da página não foi totalmente limpo dentro do tempo limite.");
+
+			clearCookies(driver);
+			clearOrigins(driver);
+			driver.get("about:blank");
+
+		} catch (WebDriverException e) {
+			failures.increment();
+			throw e;
+		}
+
+		long elapsed = System.nanoTime() - start;
+		resets.increment();
+		resetNanos.add(elapsed);
+		maxResetNanos.accumulate(elapsed);
+		log.core("Método: reset() - Contexto do navegador limpo em %d ms.", TimeUnit.NANOSECONDS.toMillis(elapsed));
+	}
+
+	public static String summary() {
+		long count = resets.sum();
+		return String.format("Reinícios: %d, falhas: %d, tempo médio: %d ms, tempo máximo: %d ms",
+				count, failures.sum(), count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(resetNanos.sum() / count),
+				TimeUnit.NANOSECONDS.toMillis(maxResetNanos.get()));
+	}
+
+	private static void dismissAlerts(WebDriver driver) {
+		for (int i = 0; i < 5; i++) {
+			try {
+				driver.switchTo().alert().dismiss();
+			} catch (NoAlertPresentException e) {
+				return;
+			}
+		}
+	}
+
+	private static void closeExtraTabs(WebDriver driver) {
+		List<String> handles = new ArrayList<>(driver.getWindowHandles());
+		String main = handles.get(0);
+		for (String handle : handles.subList(1, handles.size())) {
+			driver.switchTo().window(handle);
+			driver.close();
+		}
+		driver.switchTo().window(main);
+	}
+
+	private static void clearOrigins(WebDriver driver) {
+		Set<String> visited = origins.remove(driver);
+		if (visited == null || !ChromeDevTools.isAvailable(driver))
+			return;
+
+		for (String origin : new ArrayList<>(visited)) {
+			try {
+				ChromeDevTools.execute(driver, "Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+			} catch (WebDriverException e) {
+				log.warn("Método: clearOrigins() - Não foi possível limpar o storage de %s: %s", origin, e.getMessage());
+			}
+		}
+	}
+
+	private static String originOf(String url) {
+		try {
+			URI uri = URI.create(url);
+			if (uri.getHost() == null || !("http".equalsIgnoreCase(uri.getScheme()) || "https".equalsIgnoreCase(uri.getScheme())))
+				return null;
+			return uri.getScheme().toLowerCase(Locale.ROOT) + "://" + uri.getHost().toLowerCase(Locale.ROOT) + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static void clearCookies(WebDriver driver) {
+		if (ChromeDevTools.isAvailable(driver)) {
+			try {
+				ChromeDevTools.execute(driver, "Network.clearBrowserCookies", null);
+				return;
+			} catch (WebDriverException e) {
+				log.debug("Método: clearCookies() - DevTools indisponível, removendo apenas os cookies do domínio atual.");
+			}
+		}
+		driver.manage().deleteAllCookies();
+	}
+}
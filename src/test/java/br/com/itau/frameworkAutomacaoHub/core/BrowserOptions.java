@@ -1,24 +1,54 @@
 package br.com.itau.frameworkAutomacaoHub.core;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.UnexpectedAlertBehaviour;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxBinary;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.firefox.FirefoxProfile;
 import org.openqa.selenium.opera.OperaOptions;
+import org.openqa.selenium.remote.CapabilityType;
+
+import br.com.itau.frameworkAutomacaoHub.core.interaction.PageReadiness;
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+import br.com.itau.frameworkAutomacaoHub.core.network.NetworkInterceptor;
+import br.com.itau.frameworkAutomacaoHub.enums.BrowserProfile;
 
+/**
+ * <p>
+ * Opções de inicialização de cada navegador, combinadas com o
+ * {@link BrowserProfile perfil} definido em {@code PROFILE}.
+ */
 public class BrowserOptions {
 
+	private static final Logger log = LoggerFactory.getLogger(BrowserOptions.class.getSimpleName());
+
 	public static ChromeOptions chromeOptions(boolean headless) {
+		return chromeOptions(headless, Properties.PROFILE);
+	}
+
+	public static ChromeOptions chromeOptions(boolean headless, BrowserProfile profile) {
 		ChromeOptions options = new ChromeOptions();
+		applyPromptBehaviour(options);
+		options.addArguments(chromiumArguments(profile));
+		if (profile.isBlockMedia())
+			options.setExperimentalOption("prefs", chromiumPrefs(profile));
 
 		if (headless) {
 			options.setAcceptInsecureCerts(true);
 			options.setPageLoadStrategy(PageLoadStrategy.NONE);
 			options.addArguments("test-type");
 			options.addArguments("enable-automation");
-			options.addArguments("--headless");
+			options.addArguments(headlessArgument(profile));
 			options.addArguments("--no-sandbox");
 			options.addArguments("--disable-extensions");
 			options.addArguments("--enable-precise-memory-info");
@@ -40,7 +70,19 @@ public class BrowserOptions {
 	}
 
 	public static FirefoxOptions firefoxOptions(boolean headless) {
+		return firefoxOptions(headless, Properties.PROFILE);
+	}
+
+	public static FirefoxOptions firefoxOptions(boolean headless, BrowserProfile browserProfile) {
 		FirefoxOptions options = new FirefoxOptions();
+		applyPromptBehaviour(options);
+		applyInterceptProxy(options);
+		firefoxPrefs(browserProfile).forEach((name, value) -> {
+			if (value instanceof Boolean)
+				options.addPreference(name, (Boolean) value);
+			else
+				options.addPreference(name, (Integer) value);
+		});
 		if (headless) {
 			FirefoxBinary binary = new FirefoxBinary();
 			binary.addCommandLineOptions("--headless");
@@ -64,18 +106,220 @@ public class BrowserOptions {
 		return options;
 	}
 	
+	/**
+	 * <p>
+	 * <strong>Função:</strong> opções do Firefox para o Selenium Grid. O
+	 * {@link FirefoxBinary} e o {@link FirefoxProfile} locais exigem o Firefox
+	 * instalado na máquina que inicia a execução; aqui o modo headless e as
+	 * preferências de download vão como argumentos e preferências, aplicados
+	 * pelo nó do grid.
+	 *
+	 * @param headless indica se o navegador roda sem interface.
+	 * @return {@link FirefoxOptions opções}
+	 */
+	public static FirefoxOptions remoteFirefoxOptions(boolean headless) {
+		FirefoxOptions options = firefoxOptions(false, Properties.PROFILE);
+		if (headless) {
+			options.addArguments("--headless", "window-size=1920,1080");
+			options.addPreference("browser.download.folderList", 2);
+			options.addPreference("browser.download.manager.showWhenStarting", false);
+			options.addPreference("browser.helperApps.alwaysAsk.force", false);
+			options.addPreference("browser.helperApps.neverAsk.saveToDisk",
+			"application/zip,application/octet-stream,image/jpeg,application/vnd.ms-outlook,text/html,application/pdf, text/xml,application/xml,application/xhtml+xml,text/javascript,application/json");
+			options.addPreference("browser.download.manager.focusWhenStarting", false);
+			options.addPreference("browser.download.manager.useWindow", false);
+			options.addPreference("browser.download.manager.showAlertOnComplete", false);
+			options.setPageLoadStrategy(PageLoadStrategy.NONE);
+		}
+		return options;
+	}
+
 	public static EdgeOptions edgeOptions(boolean headless) {
+		return edgeOptions(headless, Properties.PROFILE);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> opções do Edge. Os argumentos e preferências do
+	 * Edge Chromium são enviados na capacidade {@code ms:edgeOptions}, que o
+	 * {@link EdgeOptions} do Selenium 3 não expõe.
+	 *
+	 * @param headless indica se o navegador roda sem interface.
+	 * @param profile  é o {@link BrowserProfile perfil} de desempenho.
+	 * @return {@link EdgeOptions opções}
+	 */
+	public static EdgeOptions edgeOptions(boolean headless, BrowserProfile profile) {
 		EdgeOptions options = new EdgeOptions();
+		applyPromptBehaviour(options);
+		applyInterceptProxy(options);
+
+		List<String> args = chromiumArguments(profile);
 		if (headless) {
+			args.add(headlessArgument(profile));
+			args.add("--disable-gpu");
+			args.add("window-size=1920,1080");
 		}
+
+		if (args.isEmpty() && !profile.isBlockMedia())
+			return options;
+
+		Map<String, Object> edgeOptions = new HashMap<>();
+		edgeOptions.put("args", args);
+		if (profile.isBlockMedia())
+			edgeOptions.put("prefs", chromiumPrefs(profile));
+		options.setCapability("ms:edgeOptions", edgeOptions);
 		return options;
 	}
 
 	public static OperaOptions operaOptions(boolean headless) {
+		return operaOptions(headless, Properties.PROFILE);
+	}
+
+	public static OperaOptions operaOptions(boolean headless, BrowserProfile profile) {
 		OperaOptions options = new OperaOptions();
+		applyPromptBehaviour(options);
+		applyInterceptProxy(options);
+		options.addArguments(chromiumArguments(profile));
+		if (profile.isBlockMedia())
+			options.setExperimentalOption("prefs", chromiumPrefs(profile));
 		if (headless) {
+			options.addArguments(headlessArgument(profile));
+			options.addArguments("--disable-gpu");
+			options.addArguments("window-size=1920,1080");
 		}
 		return options;
 	}
 
+	/**
+	 * <p>
+	 * <strong>Função:</strong> aplica as configurações do perfil que dependem da
+	 * sessão já criada. No Chrome os padrões de {@code BLOCKED_URLS} são
+	 * bloqueados pelo DevTools ({@code Network.setBlockedURLs}), o que inclui
+	 * extensões de arquivo como fontes; nos demais navegadores apenas os
+	 * domínios são bloqueados, pelas opções de inicialização. Também instala a
+	 * {@link NetworkInterceptor interceptação de rede} e o rastreador do
+	 * {@link PageReadiness carregamento de página} no Chrome.
+	 *
+	 * @param driver é o {@link WebDriver driver} recém-criado.
+	 */
+	public static void afterStart(WebDriver driver) {
+		if (NetworkInterceptor.isEnabled() && ChromeDevTools.isAvailable(driver)) {
+			try {
+				NetworkInterceptor.getInstance().install(driver);
+			} catch (Exception e) {
+				log.warn("Método: afterStart() - Não foi possível instalar a interceptação de rede: %s", e.getMessage());
+			}
+		}
+
+		PageReadiness.install(driver);
+
+		List<String> blocked = Properties.PROFILE.getBlockedUrls();
+		if (blocked.isEmpty() || !ChromeDevTools.isAvailable(driver))
+			return;
+
+		try {
+			ChromeDevTools.execute(driver, "Network.enable", null);
+			ChromeDevTools.execute(driver, "Network.setBlockedURLs", Map.of("urls", blocked));
+			log.core("Método: afterStart() - %d padrão(ões) de URL bloqueado(s).", blocked.size());
+		} catch (Exception e) {
+			log.warn("Método: afterStart() - Não foi possível bloquear as URLs pelo DevTools: %s", e.getMessage());
+		}
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> nos navegadores sem DevTools, direciona o tráfego
+	 * ao proxy local da {@link NetworkInterceptor interceptação de rede} quando
+	 * {@code INTERCEPT_MODE} estiver habilitado.
+	 *
+	 * @param options são as {@link MutableCapabilities opções} do navegador.
+	 */
+	private static void applyInterceptProxy(MutableCapabilities options) {
+		if (NetworkInterceptor.isEnabled())
+			options.setCapability(CapabilityType.PROXY, NetworkInterceptor.getInstance().proxy());
+	}
+
+	private static String headlessArgument(BrowserProfile profile) {
+		return profile.isNewHeadless() ? "--headless=new" : "--headless";
+	}
+
+	private static List<String> chromiumArguments(BrowserProfile profile) {
+		List<String> args = new ArrayList<>();
+		if (profile.isNoThrottling()) {
+			args.add("--disable-background-timer-throttling");
+			args.add("--disable-backgrounding-occluded-windows");
+			args.add("--disable-renderer-backgrounding");
+			args.add("--disable-ipc-flooding-protection");
+		}
+		if (profile.isBlockMedia())
+			args.add("--blink-settings=imagesEnabled=false");
+
+		List<String> rules = new ArrayList<>();
+		for (String domain : blockedDomains(profile)) {
+			rules.add("MAP " + domain + " ~NOTFOUND");
+			rules.add("MAP *." + domain + " ~NOTFOUND");
+		}
+		if (!rules.isEmpty())
+			args.add("--host-resolver-rules=" + String.join(", ", rules));
+
+		return args;
+	}
+
+	private static Map<String, Object> chromiumPrefs(BrowserProfile profile) {
+		Map<String, Object> prefs = new HashMap<>();
+		if (profile.isBlockMedia())
+			prefs.put("profile.managed_default_content_settings.images", 2);
+		return prefs;
+	}
+
+	private static Map<String, Object> firefoxPrefs(BrowserProfile profile) {
+		Map<String, Object> prefs = new HashMap<>();
+		if (profile.isNoThrottling()) {
+			prefs.put("dom.timeout.enable_budget_timer_throttling", false);
+			prefs.put("dom.min_background_timeout_value", 4);
+		}
+		if (profile.isBlockMedia()) {
+			prefs.put("permissions.default.image", 2);
+			prefs.put("gfx.downloadable_fonts.enabled", false);
+		}
+		if (!profile.getBlockedUrls().isEmpty()) {
+			// o Firefox não bloqueia padrões de URL, a proteção contra rastreamento cobre os domínios de análise
+			prefs.put("privacy.trackingprotection.enabled", true);
+		}
+		return prefs;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> extrai os domínios dos padrões de URL bloqueados,
+	 * ex.: {@code *google-analytics.com*}. Padrões com caminho ou extensão de
+	 * arquivo são ignorados.
+	 */
+	private static List<String> blockedDomains(BrowserProfile profile) {
+		List<String> domains = new ArrayList<>();
+		for (String pattern : profile.getBlockedUrls()) {
+			String domain = pattern.replaceAll("^[*.]+|\\*+$", "");
+			if (domain.contains(".") && domain.matches("[A-Za-z0-9.-]+"))
+				domains.add(domain);
+		}
+		return domains;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> define como o navegador trata alerts inesperados,
+	 * conforme {@code UNHANDLED_PROMPT} (ACCEPT, DISMISS, ACCEPT_AND_NOTIFY,
+	 * DISMISS_AND_NOTIFY ou IGNORE). Sem a propriedade o padrão do driver é
+	 * mantido.
+	 *
+	 * @param options são as {@link MutableCapabilities opções} do navegador.
+	 */
+	private static void applyPromptBehaviour(MutableCapabilities options) {
+		UnexpectedAlertBehaviour behaviour = Properties.UNHANDLED_PROMPT;
+		if (behaviour == null)
+			return;
+
+		options.setCapability(CapabilityType.UNHANDLED_PROMPT_BEHAVIOUR, behaviour);
+		options.setCapability(CapabilityType.UNEXPECTED_ALERT_BEHAVIOUR, behaviour);
+	}
 }
@@ -0,0 +1,103 @@
+package br.com.itau.frameworkAutomacaoHub.core;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.http.HttpMethod;
+
+/**
+ * <p>
+ * Acesso aos comandos do Chrome DevTools Protocol através do endpoint
+ * {@code send_command_and_get_result} do chromedriver, já que o Selenium 3 não
+ * expõe o protocolo diretamente.
+ * <p>
+ * Apenas comandos com resposta são suportados; eventos do protocolo não ficam
+ * disponíveis por este canal.
+ */
+public class ChromeDevTools {
+
+	private static final String COMMAND = "sendCommandWithResult";
+
+	private static final CommandInfo COMMAND_INFO = new CommandInfo("/session/:sessionId/chromium/send_command_and_get_result", HttpMethod.POST);
+
+	private static final Set<HttpCommandExecutor> defined = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+	private ChromeDevTools() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> verifica se o driver é um Chrome capaz de receber
+	 * comandos do DevTools.
+	 *
+	 * @param driver é o {@link WebDriver driver}.
+	 * @return {@link Boolean boolean}
+	 */
+	public static boolean isAvailable(WebDriver driver) {
+		if (!(driver instanceof RemoteWebDriver) || !(((RemoteWebDriver) driver).getCommandExecutor() instanceof HttpCommandExecutor))
+			return false;
+
+		String browser = ((HasCapabilities) driver).getCapabilities().getBrowserName();
+		return "chrome".equalsIgnoreCase(browser);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> executa um comando do DevTools e retorna o seu
+	 * resultado.
+	 *
+	 * @param driver  é o {@link WebDriver driver} do Chrome.
+	 * @param command é o {@link String nome} do comando, ex.: {@code Page.captureScreenshot}.
+	 * @param params  são os {@link Map parâmetros} do comando.
+	 * @return {@link Map resultado} do comando.
+	 * @throws WebDriverException caso o comando falhe.
+	 */
+	@SuppressWarnings("unchecked")
+	public static Map<String, Object> execute(WebDriver driver, String command, Map<String, ?> params) {
+		RemoteWebDriver remote = (RemoteWebDriver) driver;
+		HttpCommandExecutor executor = (HttpCommandExecutor) remote.getCommandExecutor();
+		define(executor);
+
+		Map<String, Object> body = new HashMap<>();
+		body.put("cmd", command);
+		body.put("params", params == null ? Collections.emptyMap() : params);
+
+		Response response;
+		try {
+			response = executor.execute(new Command(remote.getSessionId(), COMMAND, body));
+		} catch (Exception e) {
+			throw new WebDriverException("Falha ao executar o comando " + command + " do DevTools.", e);
+		}
+
+		if (response.getStatus() != null && response.getStatus() != 0)
+			throw new WebDriverException("O comando " + command + " do DevTools falhou: " + response.getValue());
+
+		Object value = response.getValue();
+		return value instanceof Map ? (Map<String, Object>) value : Collections.emptyMap();
+	}
+
+	private static void define(HttpCommandExecutor executor) {
+		if (defined.contains(executor))
+			return;
+
+		try {
+			Method method = HttpCommandExecutor.class.getDeclaredMethod("defineCommand", String.class, CommandInfo.class);
+			method.setAccessible(true);
+			method.invoke(executor, COMMAND, COMMAND_INFO);
+			defined.add(executor);
+		} catch (ReflectiveOperationException e) {
+			throw new WebDriverException("Não foi possível registrar o comando do DevTools.", e);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package br.com.itau.frameworkAutomacaoHub.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+
+/**
+ * <p>
+ * Disjuntor da criação de sessões. Após {@code CIRCUIT_FAILURE_THRESHOLD}
+ * falhas consecutivas o circuito abre e as novas tentativas falham
+ * imediatamente durante {@code CIRCUIT_OPEN_SECONDS} segundos. Passado esse
+ * tempo uma única tentativa de teste é liberada: se ela funcionar o circuito
+ * fecha, caso contrário abre novamente.
+ */
+public class CircuitBreaker {
+
+	private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class.getSimpleName());
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final String name;
+	private final int threshold;
+	private final long openNanos;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAt;
+	private boolean probing;
+
+	private final LongAdder opened = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+
+	public CircuitBreaker(String name, int threshold, long openSeconds) {
+		this.name = name;
+		this.threshold = Math.max(threshold, 1);
+		this.openNanos = TimeUnit.SECONDS.toNanos(openSeconds);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> verifica se uma nova tentativa pode ser feita.
+	 *
+	 * @return {@code false} caso o circuito esteja aberto.
+	 */
+	public synchronized boolean allow() {
+		if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+			state = State.HALF_OPEN;
+			probing = false;
+			log.core("Método: allow() - Circuito %s liberando uma tentativa de teste.", name);
+		}
+
+		if (state == State.CLOSED)
+			return true;
+
+		if (state == State.HALF_OPEN && !probing) {
+			probing = true;
+			return true;
+		}
+
+		rejected.increment();
+		return false;
+	}
+
+	public synchronized void success() {
+		if (state != State.CLOSED)
+			log.core("Método: success() - Circuito %s fechado.", name);
+
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+		probing = false;
+	}
+
+	public synchronized void failure() {
+		consecutiveFailures++;
+		if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= threshold)) {
+			state = State.OPEN;
+			openedAt = System.nanoTime();
+			probing = false;
+			opened.increment();
+			log.warn("Método: failure() - Circuito %s aberto após %d falha(s) consecutiva(s), novas sessões serão recusadas por %d s.",
+					name, consecutiveFailures, TimeUnit.NANOSECONDS.toSeconds(openNanos));
+		}
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> tempo restante até o circuito liberar uma nova
+	 * tentativa.
+	 *
+	 * @return {@link Long segundos} restantes, zero caso o circuito não esteja aberto.
+	 */
+	public synchronized long remainingSeconds() {
+		if (state != State.OPEN)
+			return 0;
+
+		return Math.max(TimeUnit.NANOSECONDS.toSeconds(openNanos - (System.nanoTime() - openedAt)), 0);
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getOpened() {
+		return opened.sum();
+	}
+
+	public long getRejected() {
+		return rejected.sum();
+	}
+}
@@ -0,0 +1,89 @@
+package br.com.itau.frameworkAutomacaoHub.core;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+import br.com.itau.frameworkAutomacaoHub.core.CircuitBreaker.State;
+
+/**
+ * <p>
+ * Testes do {@link CircuitBreaker disjuntor} e do intervalo entre as
+ * tentativas de criação de sessão do {@link DriverFactory}.
+ */
+public class CircuitBreakerTest {
+
+	@Test
+	public void staysClosedBelowThreshold() {
+		CircuitBreaker breaker = new CircuitBreaker("teste", 3, 60);
+
+		breaker.failure();
+		breaker.failure();
+		breaker.success();
+		breaker.failure();
+		breaker.failure();
+
+		assertEquals(breaker.getState(), State.CLOSED);
+		assertTrue(breaker.allow());
+		assertEquals(breaker.getOpened(), 0);
+	}
+
+	@Test
+	public void opensAtThresholdAndRejects() {
+		CircuitBreaker breaker = new CircuitBreaker("teste", 2, 60);
+
+		breaker.failure();
+		breaker.failure();
+
+		assertEquals(breaker.getState(), State.OPEN);
+		assertFalse(breaker.allow());
+		assertFalse(breaker.allow());
+		assertEquals(breaker.getRejected(), 2);
+		assertEquals(breaker.getOpened(), 1);
+		assertTrue(breaker.remainingSeconds() > 0 && breaker.remainingSeconds() <= 60);
+	}
+
+	@Test
+	public void halfOpenAllowsSingleProbeAndCloses() {
+		CircuitBreaker breaker = new CircuitBreaker("teste", 1, 0);
+		breaker.failure();
+		assertEquals(breaker.getState(), State.OPEN);
+
+		assertTrue(breaker.allow());
+		assertEquals(breaker.getState(), State.HALF_OPEN);
+		assertFalse(breaker.allow());
+
+		breaker.success();
+		assertEquals(breaker.getState(), State.CLOSED);
+		assertTrue(breaker.allow());
+		assertTrue(breaker.allow());
+		assertEquals(breaker.remainingSeconds(), 0);
+	}
+
+	@Test
+	public void failedProbeReopens() {
+		CircuitBreaker breaker = new CircuitBreaker("teste", 1, 0);
+		breaker.failure();
+
+		assertTrue(breaker.allow());
+		breaker.failure();
+
+		assertEquals(breaker.getState(), State.OPEN);
+		assertEquals(breaker.getOpened(), 2);
+	}
+
+	@Test
+	public void backoffStaysWithinBounds() {
+		long base = Properties.SESSION_RETRY_BACKOFF;
+		for (int attempt = 1; attempt <= 15; attempt++) {
+			long ceiling = base << Math.min(attempt - 1, 10);
+			for (int i = 0; i < 200; i++) {
+				long delay = DriverFactory.backoffDelay(attempt);
+				assertTrue(delay >= ceiling / 2 && delay <= ceiling,
+						String.format("tentativa %d: %d fora de [%d, %d]", attempt, delay, ceiling / 2, ceiling));
+			}
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package br.com.itau.frameworkAutomacaoHub.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+import br.com.itau.frameworkAutomacaoHub.enums.Browsers;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.versions.VersionDetector;
+
+/**
+ * <p>
+ * Resolve o binário do driver de cada navegador uma única vez por JVM. O
+ * caminho e a versão resolvidos são gravados em
+ * {@code target/drivers/manifest.properties}, junto com a versão principal do
+ * navegador instalado, e reaproveitados nas execuções seguintes, evitando a
+ * resolução de versão do WebDriverManager. Quando o navegador é atualizado a
+ * versão principal muda e o driver é resolvido novamente.
+ * <p>
+ * Para forçar uma nova resolução basta apagar o manifesto ou utilizar
+ * {@code DRIVER_MANIFEST=false}.
+ */
+public class DriverBinaries {
+
+	private static final Logger log = LoggerFactory.getLogger(DriverBinaries.class.getSimpleName());
+
+	private static final Path MANIFEST = Paths.get("target", "drivers", "manifest.properties");
+
+	private static final Map<Browsers, String> resolved = new ConcurrentHashMap<>();
+
+	private DriverBinaries() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> garante que o binário do driver do navegador
+	 * informado esteja configurado, resolvendo-o apenas na primeira chamada.
+	 *
+	 * @param browser é o {@link Browsers navegador}.
+	 * @return {@link String caminho} do binário do driver.
+	 */
+	public static String resolve(Browsers browser) {
+		return resolved.computeIfAbsent(browser, DriverBinaries::load);
+	}
+
+	private static String load(Browsers browser) {
+		String property = systemProperty(browser);
+		boolean useManifest = Properties.DRIVER_MANIFEST;
+		Optional<String> installed = useManifest ? browserVersion(browser) : Optional.empty();
+
+		if (useManifest) {
+			java.util.Properties manifest = readManifest();
+			String cached = manifest.getProperty(browser.name() + ".path");
+			String cachedBrowser = manifest.getProperty(browser.name() + ".browserVersion");
+			boolean sameBrowser = installed.isEmpty() || installed.get().equals(cachedBrowser);
+
+			if (cached != null && Files.isExecutable(Paths.get(cached)) && sameBrowser) {
+				log.core("Método: resolve() - Reutilizando o driver de %s em %s.", browser, cached);
+				System.setProperty(property, cached);
+				return cached;
+			}
+			if (cached != null && !sameBrowser)
+				log.core("Método: resolve() - %s mudou da versão %s para %s, resolvendo o driver novamente.",
+						browser, cachedBrowser, installed.get());
+		}
+
+		log.core("Método: resolve() - Resolvendo o driver de %s pelo WebDriverManager.", browser);
+		WebDriverManager manager = manager(browser);
+		manager.setup();
+
+		String path = manager.getDownloadedDriverPath();
+		if (path == null)
+			path = System.getProperty(property);
+
+		if (useManifest && path != null)
+			writeManifest(browser, path, manager.getDownloadedDriverVersion(), installed.orElse(null));
+
+		return path;
+	}
+
+	private static synchronized java.util.Properties readManifest() {
+		java.util.Properties manifest = new java.util.Properties();
+		if (Files.exists(MANIFEST)) {
+			try (InputStream in = Files.newInputStream(MANIFEST)) {
+				manifest.load(in);
+			} catch (IOException e) {
+				log.warn("Não foi possível ler o manifesto de drivers: " + e.getMessage());
+			}
+		}
+		return manifest;
+	}
+
+	private static synchronized void writeManifest(Browsers browser, String path, String version, String browserVersion) {
+		java.util.Properties manifest = readManifest();
+		manifest.setProperty(browser.name() + ".path", path);
+		manifest.setProperty(browser.name() + ".version", String.valueOf(version));
+		if (browserVersion != null)
+			manifest.setProperty(browser.name() + ".browserVersion", browserVersion);
+		else
+			manifest.remove(browser.name() + ".browserVersion");
+		manifest.setProperty(browser.name() + ".resolvedAt", LocalDateTime.now().toString());
+
+		try {
+			Files.createDirectories(MANIFEST.getParent());
+			try (OutputStream out = Files.newOutputStream(MANIFEST)) {
+				manifest.store(out, "Drivers resolvidos pelo frameworkAutomacaoHub");
+			}
+		} catch (IOException e) {
+			log.warn("Não foi possível gravar o manifesto de drivers: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> versão principal do navegador instalado, lida pelo
+	 * comando local do WebDriverManager (ex.: {@code google-chrome --version}),
+	 * sem acesso à rede.
+	 *
+	 * @param browser é o {@link Browsers navegador}.
+	 * @return {@link Optional versão} principal, vazia caso não seja detectada.
+	 */
+	private static Optional<String> browserVersion(Browsers browser) {
+		try {
+			Config config = new Config().setCommandsPropertiesOnlineFirst(false);
+			return new VersionDetector(config, new HttpClient(config))
+					.getBrowserVersionFromTheShell(browser.name().toLowerCase(Locale.ROOT))
+					.map(version -> version.split("\\.")[0].trim())
+					.filter(version -> !version.isEmpty());
+		} catch (Exception e) {
+			log.debug("Método: browserVersion() - Versão de %s não detectada: %s", browser, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private static WebDriverManager manager(Browsers browser) {
+		switch (browser) {
+		case FIREFOX:
+			return WebDriverManager.firefoxdriver();
+		case EDGE:
+			return WebDriverManager.edgedriver();
+		case OPERA:
+			return WebDriverManager.operadriver();
+		default:
+			return WebDriverManager.chromedriver();
+		}
+	}
+
+	private static String systemProperty(Browsers browser) {
+		switch (browser) {
+		case FIREFOX:
+			return "webdriver.gecko.driver";
+		case EDGE:
+			return "webdriver.edge.driver";
+		case OPERA:
+			return "webdriver.opera.driver";
+		default:
+			return "webdriver.chrome.driver";
+		}
+	}
+}
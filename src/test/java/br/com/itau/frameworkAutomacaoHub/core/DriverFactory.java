@@ -1,38 +1,362 @@
 package br.com.itau.frameworkAutomacaoHub.core;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
 import org.openqa.selenium.WebDriver;
 
+import br.com.itau.frameworkAutomacaoHub.core.exceptions.DriverException;
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+import br.com.itau.frameworkAutomacaoHub.core.report.RunReport;
+
+/**
+ * <p>
+ * Gerencia o navegador de cada thread.
+ * <p>
+ * A criação da sessão é limitada a {@code SESSION_TIMEOUT} segundos e repetida
+ * até {@code SESSION_RETRIES} vezes, com intervalo exponencial aleatorizado a
+ * partir de {@code SESSION_RETRY_BACKOFF} milissegundos para que as threads não
+ * tentem todas ao mesmo tempo. Falhas consecutivas abrem o
+ * {@link CircuitBreaker disjuntor} do navegador, que passa a recusar novas
+ * sessões imediatamente até o backend se recuperar.
+ */
 public class DriverFactory {
 
+	private static final Logger log = LoggerFactory.getLogger(DriverFactory.class.getSimpleName());
+
+	private static final AtomicInteger launcherThreads = new AtomicInteger();
+
+	private static final ExecutorService launcher = Executors.newCachedThreadPool(r -> {
+		Thread t = new Thread(r, "driver-session-launcher-" + launcherThreads.incrementAndGet());
+		t.setDaemon(true);
+		return t;
+	});
+
+	private static final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+	/** Navegadores fora do pool mantidos entre cenários, encerrados ao final da execução quando {@code CLOSE=true}. */
+	private static final Map<WebDriver, RunConfig> live = new ConcurrentHashMap<>();
+
+	/** Substitutos iniciados em segundo plano e ainda não usados por nenhum cenário. */
+	private static final Set<Replacement> replacements = ConcurrentHashMap.newKeySet();
+
+	private static final LongAdder attempts = new LongAdder();
+	private static final LongAdder created = new LongAdder();
+	private static final LongAdder failures = new LongAdder();
+	private static final LongAdder timeouts = new LongAdder();
+	private static final LongAdder retries = new LongAdder();
+	private static final LongAdder creationNanos = new LongAdder();
+
+	static {
+		RunReport.register("Criação de sessões", DriverFactory::summary);
+		Runtime.getRuntime().addShutdownHook(new Thread(DriverFactory::quitKept, "driver-factory-shutdown"));
+	}
+
+	private static ThreadLocal<RunConfig> threadConfig = new ThreadLocal<RunConfig>();
+
+	/** Substituto iniciado em segundo plano após a reciclagem do navegador da thread. */
+	private static ThreadLocal<Replacement> threadReplacement = new ThreadLocal<Replacement>();
+
 	private static ThreadLocal<WebDriver> threadDriver = new ThreadLocal<WebDriver>() {
 		@Override
-		protected synchronized WebDriver initialValue() {
-			return initDriver();
+		protected WebDriver initialValue() {
+			RunConfig config = RunConfig.current();
+			WebDriver driver = takeReplacement(config);
+			if (driver == null)
+				driver = initDriver(config);
+			threadConfig.set(config);
+			if (!DriverPool.isEnabled())
+				live.put(driver, config);
+			return driver;
 		}
 	};
-	
+
 	private DriverFactory() { }
-	
+
 	public static WebDriver getDriver() {
+		RunConfig owner = threadConfig.get();
+		if (owner != null && !owner.equals(RunConfig.current()))
+			killDriver();
+
 		return threadDriver.get();
 	}
-	
+
 	public static WebDriver initDriver() {
-		WebDriver driver = null;
-		driver = Properties.BROWSER.newDriver(Properties.HEADLESS);
-		driver.manage().deleteAllCookies();
-		driver.manage().window().maximize();			
-		return driver;
+		return initDriver(RunConfig.current());
+	}
+
+	public static WebDriver initDriver(RunConfig config) {
+		if (DriverPool.isEnabled())
+			return DriverPool.getInstance(config).lease();
+
+		return createDriver(config);
 	}
-	
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> cria uma nova sessão do navegador, repetindo a
+	 * tentativa em caso de falha ou de tempo excedido.
+	 *
+	 * @param config é a {@link RunConfig configuração} do navegador.
+	 * @return {@link WebDriver driver}
+	 * @throws DriverException caso todas as tentativas falhem ou o disjuntor esteja aberto.
+	 */
+	static WebDriver createDriver(RunConfig config) {
+		CircuitBreaker breaker = breakerOf(config);
+		RuntimeException last = null;
+
+		for (int attempt = 0; attempt <= Properties.SESSION_RETRIES; attempt++) {
+			if (attempt > 0) {
+				retries.increment();
+				backoff(attempt);
+			}
+
+			if (!breaker.allow())
+				throw new DriverException(String.format("Circuito %s aberto, a sessão não foi criada. Nova tentativa liberada em %d s.%s",
+						breaker.getName(), breaker.remainingSeconds(), last == null ? "" : " Último erro: " + last.getMessage()));
+
+			try {
+				WebDriver driver = launch(config);
+				breaker.success();
+				DriverRecycler.register(driver);
+				return driver;
+
+			} catch (RuntimeException e) {
+				breaker.failure();
+				last = e;
+				log.warn("Método: createDriver() - Tentativa %d de %d falhou para %s: %s",
+						attempt + 1, Properties.SESSION_RETRIES + 1, config, e.getMessage());
+			}
+		}
+
+		throw new DriverException(String.format("Não foi possível criar a sessão de %s após %d tentativa(s). Último erro: %s",
+				config, Properties.SESSION_RETRIES + 1, last.getMessage()));
+	}
+
+	private static WebDriver launch(RunConfig config) {
+		attempts.increment();
+		long start = System.nanoTime();
+
+		CompletableFuture<WebDriver> future = CompletableFuture.supplyAsync(() -> {
+			WebDriver driver = config.getBrowser().newDriver(config);
+			try {
+				driver.manage().deleteAllCookies();
+				driver.manage().window().maximize();
+				BrowserOptions.afterStart(driver);
+				return driver;
+			} catch (RuntimeException e) {
+				driver.quit();
+				throw e;
+			}
+		}, launcher);
+
+		try {
+			WebDriver driver = future.get(Properties.SESSION_TIMEOUT, TimeUnit.SECONDS);
+			long elapsed = System.nanoTime() - start;
+			created.increment();
+			creationNanos.add(elapsed);
+			log.core("Método: launch() - Sessão de %s criada em %d ms.", config, TimeUnit.NANOSECONDS.toMillis(elapsed));
+			return driver;
+
+		} catch (TimeoutException e) {
+			timeouts.increment();
+			failures.increment();
+			// a sessão ainda pode ser criada depois do tempo limite, nesse caso é encerrada
+			future.thenAccept(DriverFactory::quietQuit);
+			throw new DriverException(String.format("A criação da sessão excedeu %d s.", Properties.SESSION_TIMEOUT));
+
+		} catch (ExecutionException e) {
+			failures.increment();
+			Throwable cause = e.getCause();
+			throw cause instanceof RuntimeException ? (RuntimeException) cause : new DriverException(String.valueOf(cause));
+
+		} catch (InterruptedException e) {
+			failures.increment();
+			Thread.currentThread().interrupt();
+			future.thenAccept(DriverFactory::quietQuit);
+			throw new DriverException("Criação da sessão interrompida.");
+		}
+	}
+
+	private static CircuitBreaker breakerOf(RunConfig config) {
+		String name = config.getBrowser() + (config.isGrid() ? " (grid)" : "");
+		return breakers.computeIfAbsent(name,
+				n -> new CircuitBreaker(n, Properties.CIRCUIT_FAILURE_THRESHOLD, Properties.CIRCUIT_OPEN_SECONDS));
+	}
+
+	private static void backoff(int attempt) {
+		try {
+			Thread.sleep(backoffDelay(attempt));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DriverException("Criação da sessão interrompida.");
+		}
+	}
+
+	/**
+	 * Intervalo aleatório entre metade e o total de
+	 * {@code SESSION_RETRY_BACKOFF * 2^(attempt - 1)}, com o expoente limitado a 10.
+	 */
+	static long backoffDelay(int attempt) {
+		long ceiling = (long) Properties.SESSION_RETRY_BACKOFF << Math.min(attempt - 1, 10);
+		return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+	}
+
+	private static void quietQuit(WebDriver driver) {
+		try {
+			driver.quit();
+		} catch (Exception e) {
+			log.warn("Método: quietQuit() - Falha ao encerrar a sessão abandonada: %s", e.getMessage());
+		}
+	}
+
+	public static String summary() {
+		long ok = created.sum();
+		StringBuilder summary = new StringBuilder(String.format(
+				"Tentativas: %d, criadas: %d, falhas: %d, tempo excedido: %d, novas tentativas: %d, tempo médio: %d ms",
+				attempts.sum(), ok, failures.sum(), timeouts.sum(), retries.sum(),
+				ok == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(creationNanos.sum() / ok)));
+
+		breakers.values().forEach(breaker -> summary.append(System.lineSeparator()).append(String.format(
+				"Circuito %s - estado: %s, aberturas: %d, recusadas: %d",
+				breaker.getName(), breaker.getState(), breaker.getOpened(), breaker.getRejected())));
+		return summary.toString();
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> limpa o estado do navegador da thread atual,
+	 * mantendo o processo aberto para o próximo cenário. Caso a limpeza falhe o
+	 * navegador é encerrado e um novo é criado no próximo {@link #getDriver()}.
+	 *
+	 * @see BrowserContext#reset(WebDriver)
+	 */
+	public static void resetDriver() {
+		if (threadConfig.get() == null)
+			return;
+
+		if (recycleIfNeeded())
+			return;
+
+		try {
+			BrowserContext.reset(threadDriver.get());
+		} catch (Exception e) {
+			log.warn("Método: resetDriver() - Falha ao limpar o navegador, ele será encerrado: %s", e.getMessage());
+			killDriver();
+		}
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> substitui o navegador da thread atual caso ele
+	 * tenha ultrapassado os limites do {@link DriverRecycler}. O atual é
+	 * encerrado e o substituto é iniciado em segundo plano, ficando pronto para
+	 * o próximo {@link #getDriver()}.
+	 *
+	 * @return {@code true} caso o navegador tenha sido reciclado.
+	 */
+	public static boolean recycleIfNeeded() {
+		RunConfig config = threadConfig.get();
+		if (config == null)
+			return false;
+
+		WebDriver driver = threadDriver.get();
+		String reason = DriverRecycler.check(driver);
+		if (reason == null)
+			return false;
+
+		log.core("Método: recycleIfNeeded() - Reciclando o navegador de %s: %s.", config, reason);
+
+		live.remove(driver);
+		threadDriver.remove();
+		threadConfig.remove();
+
+		if (DriverPool.isEnabled()) {
+			DriverPool.getInstance(config).retire(driver);
+			return true;
+		}
+
+		DriverRecycler.forget(driver);
+		// encerra antes de iniciar o substituto para não manter os dois processos abertos
+		CompletableFuture<Void> quit = CompletableFuture.runAsync(() -> quietQuit(driver), launcher);
+		Replacement replacement = new Replacement(config, quit.thenApplyAsync(v -> createDriver(config), launcher));
+		replacements.add(replacement);
+		threadReplacement.set(replacement);
+		return true;
+	}
+
+	private static WebDriver takeReplacement(RunConfig config) {
+		Replacement replacement = threadReplacement.get();
+		if (replacement == null)
+			return null;
+		threadReplacement.remove();
+		replacements.remove(replacement);
+
+		if (!replacement.config.equals(config)) {
+			replacement.future.thenAccept(DriverFactory::quietQuit);
+			return null;
+		}
+
+		try {
+			return replacement.future.get(Properties.SESSION_TIMEOUT * (Properties.SESSION_RETRIES + 1L), TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException | TimeoutException e) {
+			log.warn("Método: takeReplacement() - O navegador substituto não foi iniciado, criando um novo: %s", e.getMessage());
+		}
+		replacement.future.thenAccept(DriverFactory::quietQuit);
+		return null;
+	}
+
+	private static void quitKept() {
+		live.forEach((driver, config) -> {
+			if (config.isClose())
+				quietQuit(driver);
+		});
+		replacements.forEach(replacement -> {
+			WebDriver driver = replacement.future.getNow(null);
+			if (driver != null && replacement.config.isClose())
+				quietQuit(driver);
+		});
+	}
+
+	private static class Replacement {
+		private final RunConfig config;
+		private final CompletableFuture<WebDriver> future;
+
+		private Replacement(RunConfig config, CompletableFuture<WebDriver> future) {
+			this.config = config;
+			this.future = future;
+		}
+	}
+
 	public static void killDriver() {
-		WebDriver driver = getDriver();
+		RunConfig config = threadConfig.get();
+		WebDriver driver = (config != null) ? threadDriver.get() : null;
 		if (driver != null) {
-			driver.quit();
+			live.remove(driver);
+			if (DriverPool.isEnabled()) {
+				DriverPool.getInstance(config).release(driver);
+			} else {
+				DriverRecycler.forget(driver);
+				driver.quit();
+			}
 			driver = null;
 		}
 		if (threadDriver != null) {
 			threadDriver.remove();
 		}
+		threadConfig.remove();
 	}
 }
@@ -0,0 +1,260 @@
+package br.com.itau.frameworkAutomacaoHub.core;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebDriver;
+
+import br.com.itau.frameworkAutomacaoHub.core.exceptions.DriverException;
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+import br.com.itau.frameworkAutomacaoHub.core.report.RunReport;
+
+/**
+ * <p>
+ * Pool limitado de sessões do navegador. Os navegadores são iniciados em
+ * segundo plano, emprestados aos cenários e, na devolução, têm o estado
+ * limpo em vez de serem encerrados.
+ * <p>
+ * Habilitado quando {@code POOL_SIZE} for maior que zero.
+ *
+ * @see DriverFactory
+ */
+public class DriverPool {
+
+	private static final Logger log = LoggerFactory.getLogger(DriverPool.class.getSimpleName());
+
+	private static final Map<RunConfig, DriverPool> pools = new ConcurrentHashMap<>();
+
+	private static final AtomicInteger launcherThreads = new AtomicInteger();
+
+	private final int size;
+	private final long leaseTimeout;
+	private final Supplier<WebDriver> launcher;
+
+	private final BlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+	private final Set<WebDriver> all = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger launching = new AtomicInteger();
+	private final ExecutorService executor;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder leaseWaitNanos = new LongAdder();
+	private final LongAccumulator maxLeaseWaitNanos = new LongAccumulator(Long::max, 0);
+
+	DriverPool(int size, long leaseTimeoutSeconds, Supplier<WebDriver> launcher) {
+		this.size = size;
+		this.leaseTimeout = TimeUnit.SECONDS.toNanos(leaseTimeoutSeconds);
+		this.launcher = launcher;
+		this.executor = Executors.newFixedThreadPool(size, r -> {
+			Thread t = new Thread(r, "driver-pool-launcher-" + launcherThreads.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	public static boolean isEnabled() {
+		return Properties.POOL_SIZE > 0;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna o pool da configuração do runner da thread
+	 * atual.
+	 *
+	 * @return {@link DriverPool pool}
+	 * @see RunConfig#current()
+	 */
+	public static DriverPool getInstance() {
+		return getInstance(RunConfig.current());
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna o pool da configuração informada,
+	 * criando-o e iniciando o pré-carregamento dos navegadores na primeira
+	 * chamada.
+	 *
+	 * @param config é a {@link RunConfig configuração} dos navegadores do pool.
+	 * @return {@link DriverPool pool}
+	 */
+	public static DriverPool getInstance(RunConfig config) {
+		return pools.computeIfAbsent(config, c -> {
+			DriverPool pool = new DriverPool(Properties.POOL_SIZE, Properties.POOL_LEASE_TIMEOUT, () -> DriverFactory.createDriver(c));
+			pool.warmUp();
+			Runtime.getRuntime().addShutdownHook(new Thread(pool::shutdown, "driver-pool-shutdown"));
+			RunReport.register("Pool de navegadores - " + c, pool::summary);
+			return pool;
+		});
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> inicia em segundo plano os navegadores que ainda
+	 * faltam para completar o tamanho do pool.
+	 */
+	public void warmUp() {
+		int missing = size - all.size() - launching.get();
+		log.core("Método: warmUp() - Pré-carregando %d navegador(es).", Math.max(missing, 0));
+		for (int i = 0; i < missing; i++) {
+			launchInBackground();
+		}
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> empresta um navegador do pool, aguardando até
+	 * {@code POOL_LEASE_TIMEOUT} segundos caso todos estejam em uso ou ainda
+	 * sendo iniciados.
+	 *
+	 * @return {@link WebDriver driver}
+	 * @throws DriverException caso nenhum navegador fique disponível a tempo.
+	 */
+	public WebDriver lease() {
+		WebDriver driver = idle.poll();
+		if (driver != null) {
+			hits.increment();
+			return driver;
+		}
+
+		misses.increment();
+		if (all.size() + launching.get() < size)
+			launchInBackground();
+
+		long start = System.nanoTime();
+		try {
+			driver = idle.poll(leaseTimeout, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		long waited = System.nanoTime() - start;
+		leaseWaitNanos.add(waited);
+		maxLeaseWaitNanos.accumulate(waited);
+
+		if (driver == null)
+			throw new DriverException("Nenhum navegador do pool ficou disponível dentro do tempo limite.");
+
+		log.core("Método: lease() - Navegador obtido após aguardar %d ms.", TimeUnit.NANOSECONDS.toMillis(waited));
+		return driver;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> devolve o navegador ao pool com o contexto limpo
+	 * pelo {@link BrowserContext}. Caso a limpeza falhe, o navegador é
+	 * encerrado e um substituto é iniciado em segundo plano.
+	 *
+	 * @param driver é o {@link WebDriver driver} emprestado.
+	 */
+	public void release(WebDriver driver) {
+		if (driver == null)
+			return;
+
+		String reason = DriverRecycler.check(driver);
+		if (reason != null) {
+			log.core("Método: release() - Reciclando o navegador: %s.", reason);
+			retire(driver);
+			return;
+		}
+
+		try {
+			BrowserContext.reset(driver);
+			idle.offer(driver);
+		} catch (Exception e) {
+			log.warn("Método: release() - Falha ao limpar o navegador, iniciando um substituto.");
+			discard(driver);
+			launchInBackground();
+		}
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retira o navegador do pool, encerrando-o, e
+	 * inicia um substituto em segundo plano.
+	 *
+	 * @param driver é o {@link WebDriver driver} emprestado.
+	 */
+	public void retire(WebDriver driver) {
+		all.remove(driver);
+		if (executor.isShutdown()) {
+			discard(driver);
+			return;
+		}
+		// encerra antes de iniciar o substituto para não manter os dois processos abertos
+		executor.submit(() -> discard(driver));
+		launchInBackground();
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> encerra todos os navegadores do pool e registra as
+	 * métricas de uso.
+	 */
+	public void shutdown() {
+		executor.shutdownNow();
+		log.info(summary());
+		new ArrayList<>(all).forEach(this::discard);
+		idle.clear();
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getTotalLeaseWaitMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(leaseWaitNanos.sum());
+	}
+
+	public long getMaxLeaseWaitMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get());
+	}
+
+	public String summary() {
+		long waits = getMisses();
+		return String.format("Pool de navegadores - tamanho: %d, hits: %d, misses: %d, espera média: %d ms, espera máxima: %d ms",
+				size, getHits(), waits, waits == 0 ? 0 : getTotalLeaseWaitMillis() / waits, getMaxLeaseWaitMillis());
+	}
+
+	private void launchInBackground() {
+		launching.incrementAndGet();
+		executor.submit(() -> {
+			try {
+				WebDriver driver = launcher.get();
+				all.add(driver);
+				if (executor.isShutdown())
+					discard(driver);
+				else
+					idle.offer(driver);
+			} catch (Exception e) {
+				log.error("Método: launchInBackground() - Falha ao iniciar o navegador do pool: " + e.getMessage());
+			} finally {
+				launching.decrementAndGet();
+			}
+		});
+	}
+
+	private void discard(WebDriver driver) {
+		all.remove(driver);
+		DriverRecycler.forget(driver);
+		try {
+			driver.quit();
+		} catch (Exception e) {
+			log.warn("Método: discard() - Falha ao encerrar o navegador: " + e.getMessage());
+		}
+	}
+}
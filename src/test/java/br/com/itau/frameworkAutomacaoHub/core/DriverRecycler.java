@@ -0,0 +1,167 @@
+package br.com.itau.frameworkAutomacaoHub.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.UnhandledAlertException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+import br.com.itau.frameworkAutomacaoHub.core.report.RunReport;
+
+/**
+ * <p>
+ * Política de reciclagem dos navegadores reaproveitados entre cenários. Ao
+ * final de cada cenário o navegador é substituído quando ultrapassa um dos
+ * limites configurados (zero desabilita o limite):
+ * <ul>
+ * <li>{@code MAX_SCENARIOS_PER_DRIVER}: cenários executados;</li>
+ * <li>{@code MAX_DRIVER_AGE_MINUTES}: tempo desde a criação;</li>
+ * <li>{@code MAX_JS_HEAP_MB}: heap JavaScript da página
+ * ({@code performance.memory}, disponível no Chrome);</li>
+ * </ul>
+ * ou quando deixa de responder à verificação.
+ *
+ * @see DriverFactory#resetDriver()
+ * @see DriverPool#release(WebDriver)
+ */
+public final class DriverRecycler {
+
+	private static final Logger log = LoggerFactory.getLogger(DriverRecycler.class.getSimpleName());
+
+	private static final String HEAP_SCRIPT =
+			"return window.performance && performance.memory ? performance.memory.usedJSHeapSize : -1;";
+
+	private static final Map<WebDriver, Health> drivers = new ConcurrentHashMap<>();
+
+	private static final LongAdder byScenarios = new LongAdder();
+	private static final LongAdder byAge = new LongAdder();
+	private static final LongAdder byHeap = new LongAdder();
+	private static final LongAdder byHealth = new LongAdder();
+	private static final LongAccumulator maxHeapBytes = new LongAccumulator(Long::max, 0);
+
+	static {
+		RunReport.register("Reciclagem de navegadores", DriverRecycler::summary);
+	}
+
+	private DriverRecycler() { }
+
+	public static boolean isEnabled() {
+		return Properties.MAX_SCENARIOS_PER_DRIVER > 0 || Properties.MAX_DRIVER_AGE_MINUTES > 0 || Properties.MAX_JS_HEAP_MB > 0;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> passa a acompanhar um navegador recém-criado.
+	 *
+	 * @param driver é o {@link WebDriver driver}.
+	 */
+	public static void register(WebDriver driver) {
+		drivers.put(driver, new Health());
+	}
+
+	public static void forget(WebDriver driver) {
+		drivers.remove(driver);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> contabiliza o cenário executado e verifica os
+	 * limites do navegador. Deve ser chamado ao final do cenário, antes da
+	 * limpeza do contexto, para medir a memória da página usada.
+	 *
+	 * @param driver é o {@link WebDriver driver}.
+	 * @return {@link String motivo} da reciclagem, ou {@code null} caso o
+	 *         navegador possa continuar em uso.
+	 */
+	public static String check(WebDriver driver) {
+		if (!isEnabled() || driver == null)
+			return null;
+
+		Health health = drivers.computeIfAbsent(driver, d -> new Health());
+		int scenarios = health.scenarios.incrementAndGet();
+
+		if (Properties.MAX_SCENARIOS_PER_DRIVER > 0 && scenarios >= Properties.MAX_SCENARIOS_PER_DRIVER) {
+			byScenarios.increment();
+			return String.format("%d cenários executados", scenarios);
+		}
+
+		long minutes = TimeUnit.NANOSECONDS.toMinutes(System.nanoTime() - health.createdAt);
+		if (Properties.MAX_DRIVER_AGE_MINUTES > 0 && minutes >= Properties.MAX_DRIVER_AGE_MINUTES) {
+			byAge.increment();
+			return String.format("%d minutos em uso", minutes);
+		}
+
+		long heap;
+		try {
+			heap = heap(driver);
+		} catch (NoSuchSessionException | UnreachableBrowserException e) {
+			byHealth.increment();
+			return "sem resposta na verificação: " + e.getMessage();
+		}
+
+		if (heap >= 0) {
+			maxHeapBytes.accumulate(heap);
+			long heapMb = heap / (1024 * 1024);
+			if (Properties.MAX_JS_HEAP_MB > 0 && heapMb >= Properties.MAX_JS_HEAP_MB) {
+				byHeap.increment();
+				return String.format("heap JavaScript de %d MB", heapMb);
+			}
+		}
+
+		log.trace("Método: check() - Navegador com %d cenário(s), %d min, heap %d bytes.", scenarios, minutes, heap);
+		return null;
+	}
+
+	/**
+	 * Lê o heap da página. Um alert aberto pelo cenário é descartado antes da
+	 * nova leitura; demais erros do script não indicam falha do navegador e
+	 * apenas deixam o heap desconhecido. Falhas de sessão e de comunicação são
+	 * repassadas.
+	 */
+	private static long heap(WebDriver driver) {
+		for (int attempt = 0; attempt < 2; attempt++) {
+			try {
+				Object value = ((JavascriptExecutor) driver).executeScript(HEAP_SCRIPT);
+				return value instanceof Number ? ((Number) value).longValue() : -1;
+
+			} catch (UnhandledAlertException e) {
+				// o UNHANDLED_PROMPT pode já ter tratado o alert; caso contrário é descartado aqui
+				try {
+					driver.switchTo().alert().dismiss();
+				} catch (NoSuchSessionException | UnreachableBrowserException session) {
+					throw session;
+				} catch (WebDriverException ignored) {
+					// alert já tratado pelo navegador
+				}
+
+			} catch (NoSuchSessionException | UnreachableBrowserException e) {
+				throw e;
+
+			} catch (WebDriverException e) {
+				log.debug("Método: heap() - Heap da página indisponível: %s", e.getMessage());
+				return -1;
+			}
+		}
+		return -1;
+	}
+
+	public static String summary() {
+		return String.format("Reciclados por cenários: %d, por idade: %d, por memória: %d, sem resposta: %d, maior heap JS: %d MB",
+				byScenarios.sum(), byAge.sum(), byHeap.sum(), byHealth.sum(), maxHeapBytes.get() / (1024 * 1024));
+	}
+
+	private static class Health {
+		private final long createdAt = System.nanoTime();
+		private final AtomicInteger scenarios = new AtomicInteger();
+	}
+}
@@ -0,0 +1,321 @@
+package br.com.itau.frameworkAutomacaoHub.core;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import br.com.itau.frameworkAutomacaoHub.core.exceptions.GridException;
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+import br.com.itau.frameworkAutomacaoHub.core.report.RunReport;
+
+/**
+ * <p>
+ * Distribui as sessões remotas entre os hubs do Selenium Grid listados em
+ * {@code GRID_URLS}. Cada sessão é criada no hub com mais slots livres, de
+ * acordo com o status consultado no próprio hub e mantido em cache por
+ * {@code GRID_STATUS_TTL} milissegundos. Como o cache pode estar
+ * desatualizado, as sessões em criação e as criadas desde a última consulta
+ * são somadas à carga do hub; assim threads que iniciam juntas são
+ * distribuídas entre os hubs. Caso a criação falhe, o próximo hub é utilizado.
+ * <p>
+ * São suportados o status do Grid 4 ({@code /status}) e do Grid 3
+ * ({@code /grid/api/hub}); hubs que informam apenas se estão prontos são
+ * tratados como ocupados pela metade.
+ */
+public class GridBalancer {
+
+	private static final Logger log = LoggerFactory.getLogger(GridBalancer.class.getSimpleName());
+
+	private static final Json JSON = new Json();
+
+	private static final HttpClient client = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofMillis(Properties.GRID_STATUS_TIMEOUT))
+			.build();
+
+	private static final Map<String, Hub> hubs = new ConcurrentHashMap<>();
+
+	static {
+		RunReport.register("Selenium Grid", GridBalancer::summary);
+	}
+
+	private GridBalancer() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> cria uma sessão remota no hub menos ocupado,
+	 * tentando os demais hubs em caso de falha.
+	 *
+	 * @param capabilities são as {@link Capabilities capacidades} do navegador.
+	 * @return {@link WebDriver driver} remoto.
+	 * @throws GridException caso nenhum hub consiga criar a sessão.
+	 */
+	public static WebDriver newSession(Capabilities capabilities) {
+		List<Hub> tried = new ArrayList<>();
+		WebDriverException last = null;
+
+		for (Hub hub = next(tried); hub != null; hub = next(tried)) {
+			tried.add(hub);
+			long start = System.nanoTime();
+			try {
+				WebDriver driver = new RemoteWebDriver(hub.url, capabilities);
+				long latency = System.nanoTime() - start;
+				hub.created(latency);
+				log.core("Método: newSession() - Sessão criada no hub %s em %d ms.", hub.url, TimeUnit.NANOSECONDS.toMillis(latency));
+				return driver;
+
+			} catch (WebDriverException e) {
+				hub.failed();
+				last = e;
+				log.warn("Método: newSession() - Falha ao criar a sessão no hub %s: %s", hub.url, e.getMessage());
+			}
+		}
+
+		if (tried.isEmpty())
+			throw new GridException("Nenhum hub do Selenium Grid configurado em GRID_URLS.");
+
+		throw new GridException(String.format("Não foi possível criar a sessão em nenhum hub do Selenium Grid (%s). Último erro: %s",
+				tried.stream().map(hub -> hub.url.toString()).collect(Collectors.joining(", ")),
+				last == null ? "-" : last.getMessage()));
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> escolhe o hub menos ocupado ainda não tentado e
+	 * reserva a sessão nele. O status dos hubs é consultado fora do bloqueio;
+	 * apenas a escolha e a reserva são atômicas, para que a próxima thread já
+	 * veja a sessão na carga do hub.
+	 *
+	 * @param tried são os {@link List hubs} que já falharam nesta criação.
+	 * @return {@link Hub hub}, ou {@code null} caso todos tenham sido tentados.
+	 */
+	private static Hub next(List<Hub> tried) {
+		List<Hub> configured = configured();
+		configured.forEach(Hub::refresh);
+		return reserve(configured, tried);
+	}
+
+	private static synchronized Hub reserve(List<Hub> candidates, List<Hub> tried) {
+		for (Hub hub : sort(candidates)) {
+			if (!tried.contains(hub)) {
+				hub.reserve();
+				return hub;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> ordena os hubs configurados do menos para o mais
+	 * ocupado, deixando por último os hubs indisponíveis.
+	 *
+	 * @return {@link List lista} de hubs.
+	 */
+	static List<Hub> rank() {
+		List<Hub> ranked = configured();
+		ranked.forEach(Hub::refresh);
+		return sort(ranked);
+	}
+
+	private static List<Hub> configured() {
+		List<Hub> configured = new ArrayList<>();
+		for (String url : Properties.GRID_URLS)
+			configured.add(hubs.computeIfAbsent(url, Hub::new));
+		return configured;
+	}
+
+	private static List<Hub> sort(List<Hub> candidates) {
+		List<Hub> ranked = new ArrayList<>(candidates);
+		ranked.sort(Comparator.comparing((Hub hub) -> !hub.available)
+				.thenComparingDouble(Hub::load)
+				.thenComparingInt(Hub::pending)
+				.thenComparingLong(hub -> hub.sessions.sum()));
+		return ranked;
+	}
+
+	public static String summary() {
+		if (hubs.isEmpty())
+			return "Nenhuma sessão remota criada.";
+
+		StringBuilder summary = new StringBuilder();
+		hubs.values().forEach(hub -> {
+			long sessions = hub.sessions.sum();
+			if (summary.length() > 0)
+				summary.append(System.lineSeparator());
+			summary.append(String.format("%s - sessões: %d, falhas: %d, latência média: %d ms, carga: %s",
+					hub.url, sessions, hub.failures.sum(),
+					sessions == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(hub.latencyNanos.sum() / sessions),
+					hub.available ? String.format("%.0f%%", hub.load() * 100) : "indisponível"));
+		});
+		return summary.toString();
+	}
+
+	static class Hub {
+
+		private final URL url;
+		private final String root;
+
+		private final LongAdder sessions = new LongAdder();
+		private final LongAdder failures = new LongAdder();
+		private final LongAdder latencyNanos = new LongAdder();
+		private final AtomicLong checkedAt = new AtomicLong();
+		private final AtomicInteger creating = new AtomicInteger();
+		private final AtomicInteger createdSinceRefresh = new AtomicInteger();
+
+		private volatile boolean available = true;
+		/** Slots ocupados e totais na última consulta; total zero quando o hub não informa os slots. */
+		private volatile int busy;
+		private volatile int total;
+
+		Hub(String url) {
+			try {
+				this.url = new URL(url);
+			} catch (MalformedURLException e) {
+				throw new GridException("URL inválida em GRID_URLS: " + url);
+			}
+
+			String base = url.replaceAll("/+$", "");
+			this.root = base.endsWith("/wd/hub") ? base.substring(0, base.length() - "/wd/hub".length()) : base;
+		}
+
+		/**
+		 * Carga estimada: slots ocupados na última consulta somados às sessões
+		 * em criação e às criadas desde então. Sem a contagem de slots, metade.
+		 */
+		double load() {
+			if (total == 0)
+				return 0.5;
+			return Math.min(1, (double) (busy + pending()) / total);
+		}
+
+		int pending() {
+			return creating.get() + createdSinceRefresh.get();
+		}
+
+		void reserve() {
+			creating.incrementAndGet();
+		}
+
+		void created(long latency) {
+			creating.decrementAndGet();
+			createdSinceRefresh.incrementAndGet();
+			sessions.increment();
+			latencyNanos.add(latency);
+		}
+
+		void failed() {
+			creating.decrementAndGet();
+			failures.increment();
+			available = false;
+			checkedAt.set(System.nanoTime());
+		}
+
+		void refresh() {
+			long now = System.nanoTime();
+			long last = checkedAt.get();
+			if (last != 0 && now - last < TimeUnit.MILLISECONDS.toNanos(Properties.GRID_STATUS_TTL))
+				return;
+			if (!checkedAt.compareAndSet(last, now))
+				return;
+
+			long start = System.nanoTime();
+			// as sessões já criadas passam a constar no status consultado a seguir
+			int created = createdSinceRefresh.get();
+			try {
+				Map<String, Object> status = get(root + "/status");
+				Object value = status.get("value");
+				if (value instanceof Map && ((Map<?, ?>) value).get("nodes") instanceof List) {
+					slotsFromNodes((List<?>) ((Map<?, ?>) value).get("nodes"));
+				} else if (!slotsFromHubApi()) {
+					boolean ready = value instanceof Map && Boolean.TRUE.equals(((Map<?, ?>) value).get("ready"));
+					available = ready;
+					total = 0;
+				}
+			} catch (Exception e) {
+				// o Grid 3 não tem /status; slotsFromHubApi() define a disponibilidade pelos slots livres
+				if (!slotsFromHubApi()) {
+					available = false;
+					log.warn("Método: refresh() - Hub %s indisponível: %s", url, e.getMessage());
+				}
+			}
+			createdSinceRefresh.addAndGet(-created);
+
+			log.debug("Método: refresh() - Status do hub %s consultado em %d ms, carga: %.2f, disponível: %s",
+					url, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), load(), available);
+		}
+
+		private void slotsFromNodes(List<?> nodes) {
+			int slots = 0;
+			int used = 0;
+			for (Object node : nodes) {
+				if (!(node instanceof Map) || !"UP".equals(((Map<?, ?>) node).get("availability")))
+					continue;
+
+				Object nodeSlots = ((Map<?, ?>) node).get("slots");
+				if (!(nodeSlots instanceof List))
+					continue;
+
+				for (Object slot : (List<?>) nodeSlots) {
+					slots++;
+					if (slot instanceof Map && ((Map<?, ?>) slot).get("session") != null)
+						used++;
+				}
+			}
+			available = slots > used;
+			busy = used;
+			total = slots;
+		}
+
+		private boolean slotsFromHubApi() {
+			try {
+				Object counts = get(root + "/grid/api/hub").get("slotCounts");
+				if (!(counts instanceof Map))
+					return false;
+
+				int free = ((Number) ((Map<?, ?>) counts).get("free")).intValue();
+				int slots = ((Number) ((Map<?, ?>) counts).get("total")).intValue();
+				available = free > 0;
+				busy = slots - free;
+				total = slots;
+				return true;
+
+			} catch (Exception e) {
+				return false;
+			}
+		}
+
+		private static Map<String, Object> get(String uri) throws Exception {
+			HttpRequest request = HttpRequest.newBuilder(URI.create(uri))
+					.timeout(Duration.ofMillis(Properties.GRID_STATUS_TIMEOUT))
+					.GET()
+					.build();
+
+			HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+			if (response.statusCode() != 200)
+				throw new WebDriverException("HTTP " + response.statusCode());
+
+			return JSON.toType(response.body(), Json.MAP_TYPE);
+		}
+	}
+}
@@ -1,6 +1,15 @@
 package br.com.itau.frameworkAutomacaoHub.core;
 
+import java.util.List;
+
+import org.openqa.selenium.UnexpectedAlertBehaviour;
+
+import br.com.itau.frameworkAutomacaoHub.core.network.InterceptMode;
+import br.com.itau.frameworkAutomacaoHub.core.screenshot.EvidencePolicy;
+import br.com.itau.frameworkAutomacaoHub.core.screenshot.ScreenshotStrategy;
+import br.com.itau.frameworkAutomacaoHub.core.utils.Configuration;
 import br.com.itau.frameworkAutomacaoHub.core.utils.Utils;
+import br.com.itau.frameworkAutomacaoHub.enums.BrowserProfile;
 import br.com.itau.frameworkAutomacaoHub.enums.Browsers;
 
 public class Properties {
@@ -10,4 +19,67 @@ public class Properties {
 	public static boolean GRID = Utils.getOption("GRID");
 
 	public static Browsers BROWSER = Browsers.valueOf(Utils.getValueProps("BROWSER"));
+
+	public static int POOL_SIZE = Utils.getIntProps("POOL_SIZE", 0);
+	public static int POOL_LEASE_TIMEOUT = Utils.getIntProps("POOL_LEASE_TIMEOUT", 120);
+
+	public static boolean DRIVER_MANIFEST = Utils.getOption("DRIVER_MANIFEST");
+
+	public static boolean PARALLEL = Utils.getOption("PARALLEL");
+	public static int THREADS = Utils.getIntProps("THREADS", Runtime.getRuntime().availableProcessors());
+
+	public static int EVIDENCE_THREADS = Utils.getIntProps("EVIDENCE_THREADS", 2);
+	public static int EVIDENCE_QUEUE = Utils.getIntProps("EVIDENCE_QUEUE", 16);
+
+	public static ScreenshotStrategy SCREENSHOT = Configuration.get().getEnum("SCREENSHOT", ScreenshotStrategy.class, ScreenshotStrategy.FULL_PAGE);
+	public static EvidencePolicy EVIDENCE = Configuration.get().getEnum("EVIDENCE", EvidencePolicy.class, EvidencePolicy.ALWAYS);
+	public static String SCREENSHOT_ELEMENT = Utils.getValueProps("SCREENSHOT_ELEMENT", "body");
+	public static int SCREENSHOT_SCROLL_PAUSE = Utils.getIntProps("SCREENSHOT_SCROLL_PAUSE", 250);
+
+	public static int WAIT_POLL_MIN = Utils.getIntProps("WAIT_POLL_MIN", 50);
+	public static int WAIT_POLL_MAX = Utils.getIntProps("WAIT_POLL_MAX", 500);
+
+	public static boolean HUMAN_TYPING = Utils.getOption("HUMAN_TYPING");
+	public static int TYPING_DELAY_MS = Utils.getIntProps("TYPING_DELAY_MS", 50);
+
+	public static int ALERT_TIMEOUT = Utils.getIntProps("ALERT_TIMEOUT", 10);
+	public static UnexpectedAlertBehaviour UNHANDLED_PROMPT = Configuration.get().getEnum("UNHANDLED_PROMPT", UnexpectedAlertBehaviour.class, null);
+
+	public static List<String> GRID_URLS = gridUrls();
+	public static int GRID_STATUS_TTL = Utils.getIntProps("GRID_STATUS_TTL", 5000);
+	public static int GRID_STATUS_TIMEOUT = Utils.getIntProps("GRID_STATUS_TIMEOUT", 2000);
+
+	public static int SESSION_TIMEOUT = Utils.getIntProps("SESSION_TIMEOUT", 90);
+	public static int SESSION_RETRIES = Utils.getIntProps("SESSION_RETRIES", 2);
+	public static int SESSION_RETRY_BACKOFF = Utils.getIntProps("SESSION_RETRY_BACKOFF", 1000);
+	public static int CIRCUIT_FAILURE_THRESHOLD = Utils.getIntProps("CIRCUIT_FAILURE_THRESHOLD", 5);
+	public static int CIRCUIT_OPEN_SECONDS = Utils.getIntProps("CIRCUIT_OPEN_SECONDS", 30);
+
+	public static BrowserProfile PROFILE = BrowserProfile.of(Utils.getValueProps("PROFILE", "default"));
+	public static List<String> BLOCKED_URLS = Configuration.get().getList("BLOCKED_URLS");
+
+	public static InterceptMode INTERCEPT_MODE = Configuration.get().getEnum("INTERCEPT_MODE", InterceptMode.class, InterceptMode.OFF);
+	public static List<String> INTERCEPT_URLS = Configuration.get().getList("INTERCEPT_URLS");
+	public static String INTERCEPT_CACHE_DIR = Utils.getValueProps("INTERCEPT_CACHE_DIR", "src/test/resources/network/cache");
+	public static String INTERCEPT_STUBS = Utils.getValueProps("INTERCEPT_STUBS", "src/test/resources/network/stubs.json");
+
+	public static List<String> READINESS = readiness();
+	public static int READINESS_TIMEOUT = Utils.getIntProps("READINESS_TIMEOUT", 30);
+	public static int NETWORK_IDLE_MS = Utils.getIntProps("NETWORK_IDLE_MS", 500);
+
+	public static boolean CONTEXT_RESET = Utils.getOption("CONTEXT_RESET");
+
+	public static int MAX_SCENARIOS_PER_DRIVER = Utils.getIntProps("MAX_SCENARIOS_PER_DRIVER", 0);
+	public static int MAX_DRIVER_AGE_MINUTES = Utils.getIntProps("MAX_DRIVER_AGE_MINUTES", 0);
+	public static int MAX_JS_HEAP_MB = Utils.getIntProps("MAX_JS_HEAP_MB", 0);
+
+	private static List<String> gridUrls() {
+		List<String> urls = Configuration.get().getList("GRID_URLS");
+		return urls.isEmpty() ? List.of("http://localhost:4444/wd/hub") : urls;
+	}
+
+	private static List<String> readiness() {
+		List<String> names = Configuration.get().getList("READINESS");
+		return names.isEmpty() ? List.of("DOCUMENT_READY") : names;
+	}
 }
@@ -0,0 +1,123 @@
+package br.com.itau.frameworkAutomacaoHub.core;
+
+import java.util.Objects;
+
+import br.com.itau.frameworkAutomacaoHub.annotations.PropertiesTest;
+import br.com.itau.frameworkAutomacaoHub.enums.Browsers;
+
+/**
+ * <p>
+ * Configuração imutável do navegador de um runner. É obtida da anotação
+ * {@link PropertiesTest} do runner ou, na sua ausência, das flags globais de
+ * {@link Properties}.
+ * <p>
+ * O runner associa a configuração à thread que executa cada cenário, o que
+ * permite rodar runners com navegadores diferentes em paralelo na mesma JVM.
+ */
+public final class RunConfig {
+
+	private static final ThreadLocal<RunConfig> current = new ThreadLocal<>();
+
+	private final boolean close;
+	private final boolean headless;
+	private final boolean grid;
+	private final Browsers browser;
+
+	public RunConfig(boolean close, boolean headless, boolean grid, Browsers browser) {
+		this.close = close;
+		this.headless = headless;
+		this.grid = grid;
+		this.browser = Objects.requireNonNull(browser);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna a configuração global definida no
+	 * {@code options.properties}.
+	 *
+	 * @return {@link RunConfig configuração}
+	 */
+	public static RunConfig defaults() {
+		return new RunConfig(Properties.CLOSE, Properties.HEADLESS, Properties.GRID, Properties.BROWSER);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> monta a configuração do runner a partir da sua
+	 * anotação {@link PropertiesTest}. Os atributos não informados na anotação
+	 * seguem a configuração global.
+	 *
+	 * @param runner é a {@link Class classe} do runner.
+	 * @return {@link RunConfig configuração}
+	 */
+	public static RunConfig from(Class<?> runner) {
+		PropertiesTest props = runner.getAnnotation(PropertiesTest.class);
+		if (props == null)
+			return defaults();
+
+		return new RunConfig(
+				props.close().length > 0 ? props.close()[0] : Properties.CLOSE,
+				props.headless().length > 0 ? props.headless()[0] : Properties.HEADLESS,
+				props.grid().length > 0 ? props.grid()[0] : Properties.GRID,
+				props.browser().length > 0 ? props.browser()[0] : Properties.BROWSER);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> associa a configuração à thread atual.
+	 *
+	 * @param config é a {@link RunConfig configuração} do runner.
+	 */
+	public static void bind(RunConfig config) {
+		current.set(config);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna a configuração da thread atual ou a
+	 * configuração global caso nenhum runner tenha sido associado.
+	 *
+	 * @return {@link RunConfig configuração}
+	 */
+	public static RunConfig current() {
+		RunConfig config = current.get();
+		return config != null ? config : defaults();
+	}
+
+	public boolean isClose() {
+		return close;
+	}
+
+	public boolean isHeadless() {
+		return headless;
+	}
+
+	public boolean isGrid() {
+		return grid;
+	}
+
+	public Browsers getBrowser() {
+		return browser;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof RunConfig))
+			return false;
+
+		RunConfig other = (RunConfig) o;
+		return close == other.close && headless == other.headless && grid == other.grid && browser == other.browser;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(close, headless, grid, browser);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s (headless: %s, grid: %s, close: %s)", browser, headless, grid, close);
+	}
+}
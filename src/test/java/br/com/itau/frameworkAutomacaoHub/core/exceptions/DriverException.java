@@ -0,0 +1,54 @@
+package br.com.itau.frameworkAutomacaoHub.core.exceptions;
+
+import static br.com.itau.frameworkAutomacaoHub.core.utils.Utils.formatter;
+
+import br.com.itau.frameworkAutomacaoHub.core.utils.ScenarioContext;
+
+/**
+ *<p><strong>Excessões Personalizadas</strong> para a criação e o gerenciamento das sessões do navegador.
+ *
+ */
+public class DriverException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+	private String message;
+	private final String rawInput;
+
+	public DriverException(String message) {
+		this.message = String.format("%s - %s", formatter(), message);
+		this.rawInput = ScenarioContext.current().getRawInput();
+	}
+
+	@Override
+	public String getMessage() {
+		return message;
+	}
+
+	@Override
+	public String toString() {
+
+		return
+		"============================ ERRO ============================"
+		+ System.lineSeparator()
+		+ System.lineSeparator()
+		+ this.getClass().getSimpleName() + ": " + message
+		+ System.lineSeparator()
+		+ System.lineSeparator()
+		+ "====================== MASSA UTILIZADA ======================"
+		+ System.lineSeparator()
+		+ System.lineSeparator()
+		+ rawInput
+		+ System.lineSeparator()
+		+ System.lineSeparator()
+		+ "=========================== DICAS ==========================="
+		+ System.lineSeparator()
+		+ System.lineSeparator()
+		+ "Verifique se o navegador e o driver estão instalados e compatíveis."
+		+ System.lineSeparator()
+		+ "Verifique se o Selenium Grid está disponível quando GRID=true."
+		+ System.lineSeparator()
+		+ "Verifique o tamanho do pool (POOL_SIZE) em relação ao número de threads."
+		+ System.lineSeparator()
+		;
+	}
+}
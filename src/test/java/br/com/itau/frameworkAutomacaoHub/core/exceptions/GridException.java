@@ -2,15 +2,17 @@ package br.com.itau.frameworkAutomacaoHub.core.exceptions;
 
 import static br.com.itau.frameworkAutomacaoHub.core.utils.Utils.formatter;
 
-import br.com.itau.frameworkAutomacaoHub.core.utils.InputDeDados;
+import br.com.itau.frameworkAutomacaoHub.core.utils.ScenarioContext;
 
 public class GridException extends RuntimeException{
 
 	private static final long serialVersionUID = 1L;
 	private String message;
+	private final String rawInput;
 	
 	public GridException(String message) {
 		this.message = String.format("%s - %s", formatter(), message);
+		this.rawInput = ScenarioContext.current().getRawInput();
 	}
 		
 	@Override
@@ -26,7 +28,7 @@ public class GridException extends RuntimeException{
 		+ "====================== MASSA UTILIZADA ======================"
 		+ System.lineSeparator()
 		+ System.lineSeparator()
-		+ InputDeDados.getInput()
+		+ rawInput
 		+ System.lineSeparator()
 		+ System.lineSeparator()
 		+ "=========================== DICAS ==========================="
@@ -3,7 +3,7 @@ package br.com.itau.frameworkAutomacaoHub.core.exceptions;
 
 import static br.com.itau.frameworkAutomacaoHub.core.utils.Utils.formatter;
 
-import br.com.itau.frameworkAutomacaoHub.core.utils.InputDeDados;
+import br.com.itau.frameworkAutomacaoHub.core.utils.ScenarioContext;
 
 /**
  *<p><strong>Excessões Personalizadas</strong> para a classe {@link br.com.cyber.conquista.frameworkConquista.core.interaction.Interactions Interactions}.
@@ -13,9 +13,11 @@ public class InteractionsException extends RuntimeException {
 
 	private static final long serialVersionUID = 1L;
 	private String message;
+	private final String rawInput;
 	
 	public InteractionsException(String message) {
 		this.message = String.format("%s - %s", formatter(), message);
+		this.rawInput = ScenarioContext.current().getRawInput();
 	}
 
 	@Override
@@ -31,7 +33,7 @@ public class InteractionsException extends RuntimeException {
 		+ "====================== MASSA UTILIZADA ======================"
 		+ System.lineSeparator()
 		+ System.lineSeparator()
-		+ InputDeDados.getInput()
+		+ rawInput
 		+ System.lineSeparator()
 		+ System.lineSeparator()
 		+ "=========================== DICAS ==========================="
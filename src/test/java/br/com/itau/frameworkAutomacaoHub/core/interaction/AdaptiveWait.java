@@ -0,0 +1,87 @@
+package br.com.itau.frameworkAutomacaoHub.core.interaction;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import br.com.itau.frameworkAutomacaoHub.core.Properties;
+
+/**
+ * <p>
+ * Polling com recuo exponencial: as primeiras consultas são feitas em
+ * intervalos curtos ({@code WAIT_POLL_MIN}) e o intervalo dobra a cada
+ * tentativa até o limite ({@code WAIT_POLL_MAX}). Elementos que aparecem
+ * rápido são detectados logo, sem sobrecarregar o driver em esperas longas.
+ */
+public class AdaptiveWait {
+
+    private final Duration timeout;
+    private final long minPolling;
+    private final long maxPolling;
+
+    private int polls;
+
+    public AdaptiveWait(Duration timeout) {
+        this(timeout, Duration.ofMillis(Properties.WAIT_POLL_MAX));
+    }
+
+    public AdaptiveWait(Duration timeout, Duration maxPolling) {
+        this.timeout = timeout;
+        this.maxPolling = Math.max(maxPolling.toMillis(), 1);
+        this.minPolling = Math.min(Math.max(Properties.WAIT_POLL_MIN, 1), this.maxPolling);
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> consulta a condição até que ela retorne um valor
+     * diferente de {@code null} ou {@code false}.
+     *
+     * @param <T>       é o tipo do valor retornado pela condição.
+     * @param driver    é o {@link WebDriver driver}.
+     * @param condition é a {@link Function condição} aguardada.
+     * @return valor retornado pela condição.
+     * @throws TimeoutException caso exceder o tempo de espera.
+     */
+    public <T> T until(WebDriver driver, Function<? super WebDriver, T> condition) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long interval = minPolling;
+        RuntimeException last = null;
+
+        while (true) {
+            polls++;
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value))
+                    return value;
+            } catch (NoSuchElementException | StaleElementReferenceException e) {
+                last = e;
+            }
+
+            long remaining = (deadline - System.nanoTime()) / 1_000_000;
+            if (remaining <= 0)
+                throw new TimeoutException(String.format("Expected condition failed: waiting for %s (tried for %d second(s) with %d polls)",
+                        condition, timeout.getSeconds(), polls), last);
+
+            sleep(Math.min(interval, remaining));
+            interval = Math.min(interval * 2, maxPolling);
+        }
+    }
+
+    public int getPolls() {
+        return polls;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException(e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.itau.frameworkAutomacaoHub.core.interaction;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Resultado de uma leitura em lote feita por
+ * {@link Interactions#readAll}, na ordem dos elementos
+ * na página ou dos seletores informados.
+ */
+public final class DomSnapshot {
+
+    private final List<ElementSnapshot> elements;
+
+    DomSnapshot(List<ElementSnapshot> elements) {
+        this.elements = Collections.unmodifiableList(elements);
+    }
+
+    public int size() {
+        return elements.size();
+    }
+
+    public ElementSnapshot get(int index) {
+        return elements.get(index);
+    }
+
+    public List<ElementSnapshot> getElements() {
+        return elements;
+    }
+
+    public Stream<ElementSnapshot> stream() {
+        return elements.stream();
+    }
+
+    /**
+     * @return {@link List lista} com o texto de cada elemento.
+     */
+    public List<String> texts() {
+        return elements.stream().map(ElementSnapshot::getText).collect(Collectors.toList());
+    }
+
+    /**
+     * @param name é o {@link String nome} do atributo solicitado na leitura.
+     * @return {@link List lista} com o valor do atributo de cada elemento.
+     */
+    public List<String> attributes(String name) {
+        return elements.stream().map(element -> element.getAttribute(name)).collect(Collectors.toList());
+    }
+
+    @Override
+    public String toString() {
+        return elements.toString();
+    }
+}
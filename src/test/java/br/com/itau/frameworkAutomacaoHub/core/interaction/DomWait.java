@@ -0,0 +1,222 @@
+package br.com.itau.frameworkAutomacaoHub.core.interaction;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import br.com.itau.frameworkAutomacaoHub.core.Properties;
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+import br.com.itau.frameworkAutomacaoHub.core.report.WaitStats;
+import br.com.itau.frameworkAutomacaoHub.core.report.WaitStats.Outcome;
+
+/**
+ * <p>
+ * Espera de elementos orientada a eventos. Um {@code MutationObserver} é
+ * instalado na página através de um script assíncrono e a espera termina assim
+ * que a condição é satisfeita, sem o intervalo fixo de polling do
+ * {@code FluentWait}.
+ * <p>
+ * Seletores sem equivalente em JavaScript ({@code linkText},
+ * {@code partialLinkText} e seletores compostos) e drivers sem suporte a
+ * scripts assíncronos utilizam o polling com recuo do {@link AdaptiveWait}.
+ * <p>
+ * Toda espera é registrada no {@link WaitStats}.
+ */
+public final class DomWait {
+
+    private static final Logger log = LoggerFactory.getLogger(DomWait.class.getSimpleName());
+
+    /**
+     * <p>
+     * Condição aguardada para o elemento.
+     */
+    public enum Condition {
+        /** O elemento existe na DOM. */
+        PRESENT,
+        /** O elemento existe e está visível. */
+        VISIBLE,
+        /** O elemento está visível e habilitado, como em {@link ExpectedConditions#elementToBeClickable(By)}. */
+        CLICKABLE
+    }
+
+    /** Duração máxima de cada execução do script, abaixo do script timeout padrão dos drivers (30s). */
+    private static final long SLICE_MILLIS = 10000;
+
+    private static final Set<WebDriver> unsupported = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private static final String SCRIPT =
+            "var strategy = arguments[0], value = arguments[1], condition = arguments[2], timeout = arguments[3];"
+            + "var done = arguments[arguments.length - 1];"
+            + Scripts.FIND
+            + Scripts.VISIBLE
+            + "function check() {"
+            + "  var el;"
+            + "  try { el = find(strategy, value); } catch (e) { return null; }"
+            + "  if (!el || el.nodeType !== 1) return null;"
+            + "  if (condition === 'PRESENT') return el;"
+            + "  if (!visible(el)) return null;"
+            + "  if (condition === 'CLICKABLE' && el.disabled) return null;"
+            + "  return el;"
+            + "}"
+            + "var found = check();"
+            + "if (found) { done(found); return; }"
+            + "var finished = false, scheduled = false, observer, timer, interval;"
+            + "function finish(result) {"
+            + "  if (finished) return;"
+            + "  finished = true;"
+            + "  observer.disconnect(); clearTimeout(timer); clearInterval(interval);"
+            + "  done(result);"
+            + "}"
+            + "function run() {"
+            + "  if (!scheduled || finished) return;"
+            + "  scheduled = false;"
+            + "  var el = check();"
+            + "  if (el) finish(el);"
+            + "}"
+            + "function schedule() {"
+            + "  if (scheduled || finished) return;"
+            + "  scheduled = true;"
+            + "  if (window.requestAnimationFrame) window.requestAnimationFrame(run);"
+            + "  setTimeout(run, 50);"
+            + "}"
+            + "observer = new MutationObserver(schedule);"
+            + "observer.observe(document.documentElement || document, { childList: true, subtree: true, attributes: true, characterData: true });"
+            + "interval = setInterval(schedule, 250);"
+            + "timer = setTimeout(function () { finish(null); }, timeout);";
+
+    private DomWait() { }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> aguarda o elemento até que a condição seja
+     * satisfeita.
+     *
+     * @param driver    é o {@link WebDriver driver}.
+     * @param by        é o {@link By seletor} do elemento.
+     * @param condition é a {@link Condition condição} aguardada.
+     * @param timeout   é a {@link Duration duração} máxima da espera.
+     * @return {@link WebElement elemento} encontrado.
+     * @throws TimeoutException caso exceder o tempo de espera.
+     */
+    public static WebElement until(WebDriver driver, By by, Condition condition, Duration timeout) {
+        return until(driver, by, condition, timeout, Duration.ofMillis(Properties.WAIT_POLL_MAX));
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> aguarda o elemento até que a condição seja
+     * satisfeita, utilizando o intervalo informado caso seja necessário recorrer
+     * ao polling.
+     *
+     * @param driver    é o {@link WebDriver driver}.
+     * @param by        é o {@link By seletor} do elemento.
+     * @param condition é a {@link Condition condição} aguardada.
+     * @param timeout   é a {@link Duration duração} máxima da espera.
+     * @param polling   é o {@link Duration intervalo} máximo do polling de contingência.
+     * @return {@link WebElement elemento} encontrado.
+     * @throws TimeoutException caso exceder o tempo de espera.
+     */
+    public static WebElement until(WebDriver driver, By by, Condition condition, Duration timeout, Duration polling) {
+        long start = System.nanoTime();
+        int[] polls = { 0 };
+        Outcome outcome = Outcome.ERROR;
+
+        try {
+            WebElement element = await(driver, by, condition, timeout, polling, polls);
+            outcome = Outcome.FOUND;
+            return element;
+
+        } catch (TimeoutException e) {
+            outcome = Outcome.TIMEOUT;
+            throw e;
+
+        } finally {
+            WaitStats.record(by.toString(), System.nanoTime() - start, polls[0], outcome);
+        }
+    }
+
+    private static WebElement await(WebDriver driver, By by, Condition condition, Duration timeout, Duration polling, int[] polls) {
+        String[] locator = Scripts.locator(by);
+        if (locator == null || !(driver instanceof JavascriptExecutor) || unsupported.contains(driver))
+            return poll(driver, by, condition, timeout, polling, polls);
+
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (true) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0)
+                throw timeout(by, condition, timeout);
+
+            polls[0]++;
+            try {
+                Object result = js.executeAsyncScript(SCRIPT, locator[0], locator[1], condition.name(), Math.min(remaining, SLICE_MILLIS));
+                if (result instanceof WebElement)
+                    return (WebElement) result;
+
+            } catch (ScriptTimeoutException e) {
+                // a fatia excedeu o script timeout do driver, tenta novamente
+            } catch (JavascriptException | StaleElementReferenceException e) {
+                // a página foi recarregada durante a espera, o observer é reinstalado
+                pause(50);
+            } catch (UnsupportedCommandException e) {
+                log.warn("Método: until() - Scripts assíncronos indisponíveis, utilizando polling.");
+                unsupported.add(driver);
+                return poll(driver, by, condition, Duration.ofMillis(Math.max(remaining, 0)), polling, polls);
+            } catch (WebDriverException e) {
+                return poll(driver, by, condition, Duration.ofMillis(Math.max(remaining, 0)), polling, polls);
+            }
+        }
+    }
+
+    private static WebElement poll(WebDriver driver, By by, Condition condition, Duration timeout, Duration polling, int[] polls) {
+        ExpectedCondition<WebElement> expected;
+        switch (condition) {
+            case PRESENT:
+                expected = ExpectedConditions.presenceOfElementLocated(by);
+                break;
+            case VISIBLE:
+                expected = ExpectedConditions.visibilityOfElementLocated(by);
+                break;
+            default:
+                expected = ExpectedConditions.elementToBeClickable(by);
+        }
+
+        AdaptiveWait wait = new AdaptiveWait(timeout, polling);
+        try {
+            return wait.until(driver, expected);
+        } finally {
+            polls[0] += wait.getPolls();
+        }
+    }
+
+    private static TimeoutException timeout(By by, Condition condition, Duration timeout) {
+        return new TimeoutException(String.format("Expected condition failed: waiting for element %s to be %s (tried for %d second(s))",
+                by, condition.name().toLowerCase(), timeout.getSeconds()));
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException(e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.itau.frameworkAutomacaoHub.core.interaction;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import br.com.itau.frameworkAutomacaoHub.core.report.RunReport;
+
+/**
+ * <p>
+ * Cache dos {@link WebElement elementos} já localizados por uma instância de
+ * {@link Interactions}, indexado pelo {@link By seletor}.
+ * <p>
+ * O elemento em cache é usado diretamente: se ele tiver sido removido da DOM o
+ * próprio comando falha com {@link StaleElementReferenceException}, o elemento
+ * é buscado novamente e o comando repetido. Assim o elemento válido não custa
+ * nenhuma consulta extra ao navegador.
+ * <p>
+ * O cache é limpo pelas interações que trocam de página, guia ou frame. Trocas
+ * feitas diretamente pelo driver não são detectadas, chame {@link #clear()}
+ * nesses casos.
+ */
+public class ElementCache {
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder stale = new LongAdder();
+    private static final LongAdder invalidations = new LongAdder();
+
+    static {
+        RunReport.register("Cache de elementos", ElementCache::summary);
+    }
+
+    private final Map<By, WebElement> elements = new HashMap<>();
+
+    private WebDriver driver;
+
+    /**
+     * <p>
+     * <strong>Função:</strong> aplica a função ao elemento em cache ou ao
+     * elemento localizado, caso ainda não exista no cache.
+     *
+     * @param <T>    é o tipo do resultado.
+     * @param driver é o {@link WebDriver driver} atual.
+     * @param by     é o {@link By seletor} do elemento.
+     * @param action é a {@link Function função} aplicada ao elemento.
+     * @return resultado da função.
+     */
+    public <T> T apply(WebDriver driver, By by, Function<WebElement, T> action) {
+        if (this.driver != driver) {
+            clear();
+            this.driver = driver;
+        }
+
+        WebElement cached = elements.get(by);
+        if (cached != null) {
+            try {
+                T result = action.apply(cached);
+                hits.increment();
+                return result;
+            } catch (StaleElementReferenceException e) {
+                stale.increment();
+                elements.remove(by);
+            }
+        }
+
+        misses.increment();
+        WebElement element = driver.findElement(by);
+        elements.put(by, element);
+        return action.apply(element);
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> guarda um elemento já localizado, ex.: o elemento
+     * retornado por uma espera.
+     *
+     * @param by      é o {@link By seletor} do elemento.
+     * @param element é o {@link WebElement elemento}.
+     */
+    public void put(By by, WebElement element) {
+        elements.put(by, element);
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> descarta todos os elementos em cache.
+     */
+    public void clear() {
+        if (!elements.isEmpty()) {
+            invalidations.increment();
+            elements.clear();
+        }
+    }
+
+    public static String summary() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return String.format("Acessos: %d, acertos: %d (%.1f%%), buscas: %d, elementos obsoletos: %d, invalidações: %d",
+                total, hit, total == 0 ? 0 : hit * 100.0 / total, misses.sum(), stale.sum(), invalidations.sum());
+    }
+}
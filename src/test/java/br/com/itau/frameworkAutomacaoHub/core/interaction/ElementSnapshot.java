@@ -0,0 +1,106 @@
+package br.com.itau.frameworkAutomacaoHub.core.interaction;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Estado de um elemento lido em lote por
+ * {@link Interactions#readAll}. Os valores são uma
+ * fotografia do momento da leitura e não são atualizados.
+ */
+public final class ElementSnapshot {
+
+    static final ElementSnapshot ABSENT = new ElementSnapshot(false, null, null, false, false, false, Collections.emptyMap());
+
+    private final boolean present;
+    private final String tag;
+    private final String text;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final boolean selected;
+    private final Map<String, String> attributes;
+
+    private ElementSnapshot(boolean present, String tag, String text, boolean displayed, boolean enabled, boolean selected, Map<String, String> attributes) {
+        this.present = present;
+        this.tag = tag;
+        this.text = text;
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.selected = selected;
+        this.attributes = attributes;
+    }
+
+    @SuppressWarnings("unchecked")
+    static ElementSnapshot from(Object value) {
+        if (!(value instanceof Map))
+            return ABSENT;
+
+        Map<String, Object> map = (Map<String, Object>) value;
+        Map<String, String> attributes = new HashMap<>();
+        Object raw = map.get("attributes");
+        if (raw instanceof Map)
+            ((Map<String, Object>) raw).forEach((name, attr) -> attributes.put(name, attr == null ? null : attr.toString()));
+
+        return new ElementSnapshot(true,
+                (String) map.get("tag"),
+                (String) map.get("text"),
+                Boolean.TRUE.equals(map.get("displayed")),
+                Boolean.TRUE.equals(map.get("enabled")),
+                Boolean.TRUE.equals(map.get("selected")),
+                Collections.unmodifiableMap(attributes));
+    }
+
+    /**
+     * @return {@code false} caso nenhum elemento tenha sido encontrado para o
+     *         seletor.
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * @return texto visível do elemento, equivalente ao {@code getText()}.
+     */
+    public String getText() {
+        return text;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return {@code true} para opções selecionadas e checkboxes ou radios
+     *         marcados.
+     */
+    public boolean isSelected() {
+        return selected;
+    }
+
+    /**
+     * @param name é o {@link String nome} do atributo solicitado na leitura.
+     * @return valor do atributo, equivalente ao {@code getAttribute()}.
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public String toString() {
+        return present ? String.format("<%s> %s %s", tag, text, attributes) : "<ausente>";
+    }
+}
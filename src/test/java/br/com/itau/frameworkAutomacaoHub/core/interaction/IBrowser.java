@@ -28,6 +28,11 @@ public interface IBrowser {
 	Logger log = LoggerFactory.getLogger(IBrowser.class.getSimpleName());
 //	public JavascriptExecutor jse = (JavascriptExecutor) getDriver();
 	
+	/**
+	 * <p><strong>Função:</strong> chamado após a troca da guia atual, para que a implementação descarte o estado ligado à página anterior.
+	 */
+	default void onBrowsingContextChange() { }
+
 	/**
 	 * <p><strong>Substitui:</strong>
 	 * <ul>
@@ -51,10 +56,11 @@ public interface IBrowser {
 	 * @return {@link Void void}
 	 */
 	default void switchTab(Integer tab) {
-		log.core(String.format("Método: switchTab() - Trocando para a guia %s.", tab.toString()));
+		log.core("Método: switchTab() - Trocando para a guia %s.", tab.toString());
 		ArrayList<String> tabs = new ArrayList<String>(getDriver().getWindowHandles());
 		tabs.forEach(t -> log.core(t));
 		getDriver().switchTo().window(tabs.get(tab));
+		onBrowsingContextChange();
 	}
 	
 	/**
@@ -68,6 +74,7 @@ public interface IBrowser {
 	default void closeTab() {
 		log.core("Método: closeTab() - Fechando a guia atual.");
 		getDriver().close();
+		onBrowsingContextChange();
 	}
 	
 	/**
@@ -84,7 +91,7 @@ public interface IBrowser {
 	 * @see InteractionsException
 	 */
 	public default void scroll(By by, String description) {
-		log.core(String.format("Método: scroll() - Descendo a tela até o elemento %s.", description));
+		log.core("Método: scroll() - Descendo a tela até o elemento %s.", description);
 		try {
 
 			WebElement e = getDriver().findElement(by);
@@ -130,7 +137,7 @@ public interface IBrowser {
 	 * @see InteractionsException
 	 */
 	default void scrollCenter(By by, String description) {
-		log.core(String.format("Método: scrollCenter() - Descendo a tela até o elemento %s centralizar.", description));
+		log.core("Método: scrollCenter() - Descendo a tela até o elemento %s centralizar.", description);
 		try {
 			WebElement element = getDriver().findElement(by);
 
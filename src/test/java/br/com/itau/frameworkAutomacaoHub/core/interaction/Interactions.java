@@ -4,10 +4,10 @@ import org.apache.commons.lang3.ObjectUtils.Null;
 import org.junit.Assert;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.Select;
 
+import br.com.itau.frameworkAutomacaoHub.core.BrowserContext;
+import br.com.itau.frameworkAutomacaoHub.core.Properties;
 import br.com.itau.frameworkAutomacaoHub.core.exceptions.InteractionsException;
 import br.com.itau.frameworkAutomacaoHub.core.interaction.interfaces.IAlert;
 import br.com.itau.frameworkAutomacaoHub.core.interaction.interfaces.IAwait;
@@ -19,8 +19,14 @@ import static br.com.itau.frameworkAutomacaoHub.core.DriverFactory.getDriver;
 import static br.com.itau.frameworkAutomacaoHub.enums.ExceptionsMessages.*;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -34,18 +40,130 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
 
     public static final Logger log = LoggerFactory.getLogger(Interactions.class.getSimpleName());
 
+    private final ElementCache cache;
+
+    private Readiness readiness = PageReadiness.defaults();
+
+    private static final String SET_VALUE_SCRIPT =
+            "var element = arguments[0], value = arguments[1];"
+            + "var proto = element instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype"
+            + "  : element instanceof HTMLSelectElement ? HTMLSelectElement.prototype : HTMLInputElement.prototype;"
+            + "var descriptor = Object.getOwnPropertyDescriptor(proto, 'value');"
+            + "element.focus();"
+            + "if (descriptor && descriptor.set) descriptor.set.call(element, value); else element.value = value;"
+            + "element.dispatchEvent(new Event('input', { bubbles: true }));"
+            + "element.dispatchEvent(new Event('change', { bubbles: true }));";
+
+    private static final String READ_SCRIPT =
+            "var queries = arguments[0], attributes = arguments[1], all = arguments[2];"
+            + Scripts.FIND
+            + Scripts.VISIBLE
+            + "function read(el) {"
+            + "  if (!el || el.nodeType !== 1) return null;"
+            + "  var attrs = {};"
+            + "  for (var i = 0; i < attributes.length; i++) {"
+            + "    var name = attributes[i], value = el[name];"
+            + "    if (typeof value === 'boolean') value = value ? 'true' : null;"
+            + "    else if (value === undefined || value === null || typeof value === 'object' || typeof value === 'function') value = el.getAttribute(name);"
+            + "    attrs[name] = value === null || value === undefined ? null : String(value);"
+            + "  }"
+            + "  var shown = visible(el);"
+            + "  return { tag: el.tagName.toLowerCase(), text: shown ? (el.innerText || '').trim() : '', displayed: shown,"
+            + "    enabled: !el.disabled, selected: !!(el.selected || el.checked), attributes: attrs };"
+            + "}"
+            + "var out = [];"
+            + "for (var q = 0; q < queries.length; q++) {"
+            + "  var query = queries[q];"
+            + "  var found = query.elements ? query.elements : all ? findAll(query.strategy, query.value) : [find(query.strategy, query.value)];"
+            + "  if (!all) { out.push(read(found[0])); continue; }"
+            + "  for (var f = 0; f < found.length; f++) out.push(read(found[f]));"
+            + "}"
+            + "return out;";
+
+    public Interactions() {
+        this(false);
+    }
+
+    /**
+     * @param cacheElements habilita o {@link ElementCache cache} dos elementos
+     *                      localizados por esta instância.
+     */
+    public Interactions(boolean cacheElements) {
+        this.cache = cacheElements ? new ElementCache() : null;
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> descarta os elementos em cache desta instância.
+     * Necessário apenas quando a página, a guia ou o frame forem trocados
+     * diretamente pelo driver.
+     */
+    public void clearElementCache() {
+        if (cache != null)
+            cache.clear();
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> define a {@link Readiness condição} aguardada
+     * após {@link #url(String)} e {@code refresh()}.
+     *
+     * @param readiness é a {@link Readiness condição} da página.
+     */
+    public void setReadiness(Readiness readiness) {
+        this.readiness = readiness == null ? Readiness.none() : readiness;
+    }
+
+    public Readiness getReadiness() {
+        return readiness;
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> aguarda a página ficar pronta conforme a
+     * {@link Readiness condição} desta instância.
+     *
+     * @return {@code false} caso o tempo tenha se esgotado.
+     * @see PageReadiness
+     */
+    public boolean awaitReady() {
+        return PageReadiness.await(getDriver(), readiness);
+    }
+
+    @Override
+    public void onBrowsingContextChange() {
+        clearElementCache();
+    }
+
+    private <T> T fromElement(By by, Function<WebElement, T> action) {
+        return cache == null ? action.apply(getDriver().findElement(by)) : cache.apply(getDriver(), by, action);
+    }
+
+    private void onElement(By by, Consumer<WebElement> action) {
+        fromElement(by, element -> {
+            action.accept(element);
+            return null;
+        });
+    }
+
     /**
      * <p>
-     * <strong>Função:</strong> acessar uma URL.
+     * <strong>Função:</strong> acessar uma URL, aguardando a
+     * {@link Readiness condição} de carregamento da página.
      *
      * @param url {@link String string}.
      */
     public void url(String url) {
 
-        log.core(String.format("Método: url() - Acessando o endereço: %s.", url));
+        log.core("Método: url() - Acessando o endereço: %s.", url);
 
         try {
+            clearElementCache();
+            PageReadiness.install(getDriver(), readiness);
+            PageReadiness.markNavigation(getDriver());
+            BrowserContext.visited(getDriver(), url);
             getDriver().get(url);
+            awaitReady();
         } catch (Exception e) {
             WEBDRIVER.getException(e, url);
         }
@@ -76,9 +194,9 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see InteractionsException
      */
     public void write(By by, String text, String description) {
-        log.core(String.format("Método: write() - Escrevendo '%s' no elemento %s.", text, description));
+        log.core("Método: write() - Escrevendo '%s' no elemento %s.", text, description);
         try {
-            getDriver().findElement(by).sendKeys(text);
+            onElement(by, element -> element.sendKeys(text));
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
@@ -109,6 +227,11 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * <p>
      * <strong>Função:</strong> escreve lentamente uma {@link String string} no
      * elemento especificado.
+     * <p>
+     * Por padrão o texto é enviado em um único comando, o navegador continua
+     * disparando os eventos de cada tecla. Com {@code HUMAN_TYPING=true} cada
+     * caractere é enviado separadamente, com {@code TYPING_DELAY_MS}
+     * milissegundos entre eles.
      *
      * @param by          é o {@link By seletor} do elemento.
      * @param text        é a {@link String string} a ser escrita no elemento.
@@ -125,12 +248,25 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see InteractionsException
      */
     public void writeSlowly(By by, String text, String description) {
-        log.core(String.format("Método: writeSlowly() - Escrevendo lentamente '%s' no elemento %s.", text, description));
+        log.core("Método: writeSlowly() - Escrevendo lentamente '%s' no elemento %s.", text, description);
         try {
-            textClear(by, description);
             WebElement txtValor = getDriver().findElement(by);
+            txtValor.clear();
+
+            if (!Properties.HUMAN_TYPING) {
+                txtValor.sendKeys(text);
+                return;
+            }
+
             List<String> list = Arrays.asList(text.split(""));
-            list.forEach(txtValor::sendKeys);
+            for (String character : list) {
+                txtValor.sendKeys(character);
+                Thread.sleep(Properties.TYPING_DELAY_MS);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            INTERRUPTED.getException(e, description);
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
@@ -152,6 +288,45 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
         }
     }
 
+    /**
+     * <p>
+     * <strong>Função:</strong> preenche o valor do elemento via JavaScript em um
+     * único comando, disparando os eventos {@code input} e {@code change}. O
+     * setter nativo do campo é utilizado para que frameworks como React e Angular
+     * percebam a alteração.
+     * <p>
+     * Indicado para textos longos em que a digitação não é o objeto do teste;
+     * eventos de teclado não são disparados.
+     *
+     * @param by          é o {@link By seletor} do elemento.
+     * @param text        é a {@link String string} a ser escrita no elemento.
+     * @param description é o {@link String nome} do elemento.
+     * @throws NoSuchElementException          caso o elemento não existir.
+     * @throws TimeoutException                caso exceder o tempo de carregamento
+     *                                         do elemento.
+     * @throws StaleElementReferenceException  caso o elemento não estiver mais
+     *                                         visível na DOM.
+     * @see InteractionsException
+     */
+    public void writeByScript(By by, String text, String description) {
+        log.core("Método: writeByScript() - Preenchendo '%s' no elemento %s via script.", text, description);
+        try {
+            awaitAndAct(by, description, element -> ((JavascriptExecutor) getDriver()).executeScript(SET_VALUE_SCRIPT, element, text));
+
+        } catch (NoSuchElementException e) {
+            NO_SUCH_ELEMENT.getException(e, description);
+
+        } catch (TimeoutException e) {
+            TIMEOUT.getException(e, description);
+
+        } catch (StaleElementReferenceException e) {
+            STALE_REFERENCE.getException(e, description);
+
+        } catch (Exception e) {
+            EXCEPTION.getException(e, description);
+        }
+    }
+
     /**
      * <strong>Função:</strong> Limpa o campo e escreve uma {@link String string} no
      * elemento especificado.
@@ -171,11 +346,12 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see InteractionsException
      */
     public void clearAndWrite(By by, String text, String description) {
-        log.core(String.format("Método: clearAndWrite() - Limpando o campo e escrevendo  '%s' no elemento %s.", text, description));
+        log.core("Método: clearAndWrite() - Limpando o campo e escrevendo  '%s' no elemento %s.", text, description);
         try {
-            awaitElement(by, description);
-            backspace(by, text);
-            write(by, text, description);
+            awaitAndAct(by, description, element -> {
+                backspace(element, text);
+                element.sendKeys(text);
+            });
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
@@ -214,11 +390,9 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see InteractionsException
      */
     public void backspace(By by, String text) {
-        log.core(String.format("Método: backspace() - Apagando o texto: %s", text));
+        log.core("Método: backspace() - Apagando o texto: %s", text);
         try {
-            for (int i = 0; i <= text.length(); i++) {
-                getDriver().findElement(by).sendKeys(Keys.BACK_SPACE);
-            }
+            onElement(by, element -> backspace(element, text));
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, text);
@@ -240,6 +414,14 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
         }
     }
 
+    private void backspace(WebElement element, String text) {
+        element.sendKeys(repeat(Keys.BACK_SPACE, text.length() + 1));
+    }
+
+    private static String repeat(Keys key, int times) {
+        return key.toString().repeat(Math.max(times, 0));
+    }
+
     /**
      * <p>
      * <strong>Substitui:</strong>
@@ -263,9 +445,9 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see InteractionsException
      */
     public void textClear(By by, String description) {
-        log.core(String.format("Método: textClear() - Apagando o texto no elemento: %s.", description));
+        log.core("Método: textClear() - Apagando o texto no elemento: %s.", description);
         try {
-            getDriver().findElement(by).clear();
+            onElement(by, WebElement::clear);
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
@@ -312,9 +494,9 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see InteractionsException
      */
     public boolean isRadioSelected(By by, String description) {
-        log.core(String.format("Método: isRadioSelected() - Verificando se o elemento %s está marcado/selecionado.", description));
+        log.core("Método: isRadioSelected() - Verificando se o elemento %s está marcado/selecionado.", description);
         try {
-            return getDriver().findElement(by).isSelected();
+            return fromElement(by, WebElement::isSelected);
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
@@ -362,10 +544,10 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see InteractionsException
      */
     public String getText(By by, String description) {
-        log.core(String.format("Método: getText() - Obtendo texto do elemento %s.", description));
+        log.core("Método: getText() - Obtendo texto do elemento %s.", description);
         try {
-            String text = getDriver().findElement(by).getText();
-            log.core(String.format("O texto obtido foi: %s.", text));
+            String text = fromElement(by, WebElement::getText);
+            log.core("O texto obtido foi: %s.", text);
             return text;
 
         } catch (NoSuchElementException e) {
@@ -417,10 +599,11 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see #getText(By, String)
      */
     public void pageValidation(By by, String text, String description) {
-        log.core(String.format("Método: pageValidation() - Validando a página atual pelo elemento: %s.", description));
+        log.core("Método: pageValidation() - Validando a página atual pelo elemento: %s.", description);
         try {
-            awaitElement(by, description);
-            Assert.assertTrue("A página falhou no processo de verificação.", getText(by, description).contains(text));
+            String actual = awaitAndGet(by, description, WebElement::getText);
+            log.core("O texto obtido foi: %s.", actual);
+            Assert.assertTrue("A página falhou no processo de verificação.", actual.contains(text));
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
@@ -471,10 +654,10 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see InteractionsException
      */
     public String getAttribute(By by, String attribute, String description) {
-        log.core(String.format("Método: getAttribute() - Obtendo o atributo %s do elemento: %s.", attribute, description));
+        log.core("Método: getAttribute() - Obtendo o atributo %s do elemento: %s.", attribute, description);
         try {
-            String text = getDriver().findElement(by).getAttribute(attribute);
-            log.core(String.format("O atributo obtido foi: %s.", text));
+            String text = fromElement(by, element -> element.getAttribute(attribute));
+            log.core("O atributo obtido foi: %s.", text);
             return text;
 
         } catch (NoSuchElementException e) {
@@ -514,7 +697,7 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * "sleep" por um determinado período de tempo.
      */
     public void wait(int milissegundos) {
-        log.core(String.format("Método: wait() - Aguardando implicitamente por %.1f segundos", ((float) milissegundos / 1000)));
+        log.core("Método: wait() - Aguardando implicitamente por %.1f segundos", ((float) milissegundos / 1000));
         try {
             Thread.sleep(milissegundos);
         } catch (InterruptedException e) {
@@ -547,15 +730,9 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see InteractionsException
      */
     public boolean isElementDisplayed(By by, String description) {
-        log.core(String.format("Método: isElementDisplayed() - Verificando se o elemento %s está visível.", description));
+        log.core("Método: isElementDisplayed() - Verificando se o elemento %s está visível.", description);
         try {
-            new FluentWait<>(getDriver())
-                    .withTimeout(Duration.ofSeconds(4))
-                    .pollingEvery(Duration.ofMillis(500))
-                    .ignoring(Exception.class)
-                    .until(ExpectedConditions.elementToBeClickable(by));
-
-            return getDriver().findElement(by).isDisplayed();
+            return DomWait.until(getDriver(), by, DomWait.Condition.CLICKABLE, Duration.ofSeconds(4)).isDisplayed();
 
         } catch (Exception e) {
             log.warn("Método: isElementDisplayed() - o elemento " + description + " não está visível");
@@ -582,15 +759,9 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see InteractionsException
      */
     public boolean isElementDisplayed(By by, int seconds, String description) {
-        log.core(String.format("Método: isElementDisplayed() - Verificando se o elemento %s está visível.", description));
+        log.core("Método: isElementDisplayed() - Verificando se o elemento %s está visível.", description);
         try {
-            new FluentWait<>(getDriver())
-                    .withTimeout(Duration.ofSeconds(seconds))
-                    .pollingEvery(Duration.ofMillis(500))
-                    .ignoring(Exception.class)
-                    .until(ExpectedConditions.elementToBeClickable(by));
-
-            return getDriver().findElement(by).isDisplayed();
+            return DomWait.until(getDriver(), by, DomWait.Condition.CLICKABLE, Duration.ofSeconds(seconds)).isDisplayed();
 
         } catch (Exception e) {
             log.warn("Método: isElementDisplayed() - o elemento " + description + " não está visível");
@@ -606,15 +777,9 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @return {@link Boolean boolean}
      */
     public boolean isElementExists(By by, String description) {
-        log.core(String.format("Método: isElementExists() - Verificando se o elemento %s existe na DOM.", description));
+        log.core("Método: isElementExists() - Verificando se o elemento %s existe na DOM.", description);
         try {
-            new FluentWait<>(getDriver())
-                    .withTimeout(Duration.ofSeconds(4))
-                    .pollingEvery(Duration.ofMillis(500))
-                    .ignoring(Exception.class)
-                    .until(ExpectedConditions.elementToBeClickable(by));
-
-            getDriver().findElement(by);
+            DomWait.until(getDriver(), by, DomWait.Condition.CLICKABLE, Duration.ofSeconds(4));
             return true;
 
         } catch (Exception e) {
@@ -631,15 +796,9 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @return {@link Boolean boolean}
      */
     public boolean isElementExists(By by, int seconds, String description) {
-        log.core(String.format("Método: isElementExists() - Verificando se o elemento %s existe na DOM.", description));
+        log.core("Método: isElementExists() - Verificando se o elemento %s existe na DOM.", description);
         try {
-            new FluentWait<>(getDriver())
-                    .withTimeout(Duration.ofSeconds(seconds))
-                    .pollingEvery(Duration.ofMillis(500))
-                    .ignoring(Exception.class)
-                    .until(ExpectedConditions.elementToBeClickable(by));
-
-            getDriver().findElement(by);
+            DomWait.until(getDriver(), by, DomWait.Condition.CLICKABLE, Duration.ofSeconds(seconds));
             return true;
 
         } catch (Exception e) {
@@ -667,10 +826,10 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see InteractionsException
      */
     public boolean buttonIsEnabled(By by, String description) {
-        log.core(String.format("Método: buttonIsEnabled() - Verificando se o button %s está enabled.", description));
+        log.core("Método: buttonIsEnabled() - Verificando se o button %s está enabled.", description);
 
         try {
-            return getDriver().findElement(by).isEnabled();
+            return fromElement(by, WebElement::isEnabled);
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
         } catch (TimeoutException e) {
@@ -708,13 +867,13 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see InteractionsException
      */
     public void randomClickList(By by, String description) {
-        log.core(String.format("Método: randomClickList() - Gerando uma lista randômica para clicks nos elementos %s.", description));
+        log.core("Método: randomClickList() - Gerando uma lista randômica para clicks nos elementos %s.", description);
         try {
 
             List<WebElement> elementos = getDriver().findElements(by);
-            log.core(String.format("O número de elementos é %d", elementos.size()));
+            log.core("O número de elementos é %d", elementos.size());
             Integer n = (int) (Math.random() * (elementos.size() - 1));
-            log.core(String.format("Selecionando o elemento de número %s.", n.toString()));
+            log.core("Selecionando o elemento de número %s.", n.toString());
             elementos.get(n).click();
 
         } catch (NoSuchElementException e) {
@@ -763,10 +922,10 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see InteractionsException
      */
     public void selectComboByValue(By by, String value, String description) {
-        log.core(String.format("Método: selectComboByValue() - Selecionando o elemento %s do combo através do valor %s.", description, value));
+        log.core("Método: selectComboByValue() - Selecionando o elemento %s do combo através do valor %s.", description, value);
         try {
 
-            new Select(getDriver().findElement(by)).selectByValue(value);
+            onElement(by, element -> new Select(element).selectByValue(value));
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
@@ -811,10 +970,10 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see #sliderSendKeys(By, Integer, String)
      */
     public void slider(By by, Integer number, String description) {
-        log.core(String.format("Método: slider() - movendo o elemento %s %s unidades.", description, number.toString()));
+        log.core("Método: slider() - movendo o elemento %s %s unidades.", description, number.toString());
         try {
 
-            new Actions(getDriver()).dragAndDropBy(getDriver().findElement(by), number, 0).build().perform();
+            onElement(by, element -> new Actions(getDriver()).dragAndDropBy(element, number, 0).build().perform());
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
@@ -864,13 +1023,13 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see #slider(By, Integer, String)
      */
     public void sliderSendKeys(By by, Integer repetitions, String description) {
-        log.core(String.format("Método: sliderSendKeys() - movendo o elemento %s com %s repetições de sendKeys.", description, repetitions.toString()));
+        log.core("Método: sliderSendKeys() - movendo o elemento %s com %s repetições de sendKeys.", description, repetitions.toString());
         try {
 
-            click(by, "Clicando no Slider");
-            for (int i = 0; i <= repetitions; i++) {
-                getDriver().findElement(by).sendKeys(Keys.ARROW_RIGHT);
-            }
+            awaitAndAct(by, description, element -> {
+                element.click();
+                element.sendKeys(repeat(Keys.ARROW_RIGHT, repetitions + 1));
+            });
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
@@ -917,9 +1076,10 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see #switchFrame(String, String)
      */
     public void switchFrame(Integer index, String description) {
-        log.core(String.format("Método: entrarFrame() - no elemento índice %s.", index.toString()));
+        log.core("Método: entrarFrame() - no elemento índice %s.", index.toString());
         try {
 
+            clearElementCache();
             getDriver().switchTo().frame(index);
 
         } catch (NoSuchElementException e) {
@@ -970,9 +1130,10 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see #switchFrame(Integer, String)
      */
     public void switchFrame(String frame, String description) {
-        log.core(String.format("Método: entrarFrame() - no elemento de nome %s.", description));
+        log.core("Método: entrarFrame() - no elemento de nome %s.", description);
         try {
 
+            clearElementCache();
             getDriver().switchTo().frame(frame);
 
         } catch (NoSuchElementException e) {
@@ -1019,6 +1180,7 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
 
         try {
 
+            clearElementCache();
             getDriver().switchTo().defaultContent();
 
         } catch (NoSuchElementException e) {
@@ -1067,7 +1229,11 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
 
         try {
 
+            clearElementCache();
+            PageReadiness.install(getDriver(), readiness);
+            PageReadiness.markNavigation(getDriver());
             getDriver().navigate().refresh();
+            awaitReady();
 
             pageValidation(by, validation, description);
 
@@ -1115,7 +1281,11 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
 
         try {
 
+            clearElementCache();
+            PageReadiness.install(getDriver(), readiness);
+            PageReadiness.markNavigation(getDriver());
             getDriver().navigate().refresh();
+            awaitReady();
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
@@ -1166,7 +1336,7 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      * @see InteractionsException
      */
     public int sizeListElements(By by, String description) {
-        log.core(String.format("Método: sizeListElements() - Contando quantos elemento tem dentro do %s.", description));
+        log.core("Método: sizeListElements() - Contando quantos elemento tem dentro do %s.", description);
         try {
             return getDriver().findElements(by).size();
 
@@ -1191,6 +1361,92 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
         return 0;
     }
 
+    /**
+     * <p>
+     * <strong>Função:</strong> lê em uma única chamada ao navegador o texto, o
+     * estado e os atributos informados de todos os elementos encontrados pelo
+     * seletor. Indicado para validar tabelas e listas grandes, em que
+     * {@link #getText(By, String)} custaria uma chamada por elemento.
+     *
+     * @param by          é o {@link By seletor} dos elementos.
+     * @param description é o {@link String nome} dos elementos.
+     * @param attributes  são os {@link String nomes} dos atributos a serem lidos.
+     * @return {@link DomSnapshot snapshot} com um item por elemento encontrado.
+     * @throws NoSuchElementException          caso o elemento não existir.
+     * @throws StaleElementReferenceException  caso o elemento não estiver mais
+     *                                         visível na DOM.
+     * @see InteractionsException
+     */
+    public DomSnapshot readAll(By by, String description, String... attributes) {
+        log.core("Método: readAll() - Lendo em lote os elementos %s.", description);
+        try {
+            DomSnapshot snapshot = read(Collections.singletonList(by), true, attributes);
+            log.core("O número de elementos lidos é %d", snapshot.size());
+            return snapshot;
+
+        } catch (NoSuchElementException e) {
+            NO_SUCH_ELEMENT.getException(e, description);
+
+        } catch (StaleElementReferenceException e) {
+            STALE_REFERENCE.getException(e, description);
+
+        } catch (Exception e) {
+            EXCEPTION.getException(e, description);
+        }
+        return null;
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> lê em uma única chamada ao navegador o primeiro
+     * elemento de cada seletor. Seletores sem elemento na página retornam um
+     * item com {@link ElementSnapshot#isPresent()} igual a {@code false}.
+     *
+     * @param locators    são os {@link By seletores} dos elementos.
+     * @param description é o {@link String nome} do conjunto de elementos.
+     * @param attributes  são os {@link String nomes} dos atributos a serem lidos.
+     * @return {@link DomSnapshot snapshot} com um item por seletor, na mesma ordem.
+     * @throws StaleElementReferenceException  caso o elemento não estiver mais
+     *                                         visível na DOM.
+     * @see InteractionsException
+     */
+    public DomSnapshot readAll(List<By> locators, String description, String... attributes) {
+        log.core("Método: readAll() - Lendo em lote %d seletores de %s.", locators.size(), description);
+        try {
+            return read(locators, false, attributes);
+
+        } catch (StaleElementReferenceException e) {
+            STALE_REFERENCE.getException(e, description);
+
+        } catch (Exception e) {
+            EXCEPTION.getException(e, description);
+        }
+        return null;
+    }
+
+    private DomSnapshot read(List<By> locators, boolean all, String[] attributes) {
+        List<Map<String, Object>> queries = new ArrayList<>(locators.size());
+        for (By by : locators) {
+            Map<String, Object> query = new HashMap<>();
+            String[] locator = Scripts.locator(by);
+            if (locator != null) {
+                query.put("strategy", locator[0]);
+                query.put("value", locator[1]);
+            } else {
+                List<WebElement> elements = getDriver().findElements(by);
+                query.put("elements", all || elements.isEmpty() ? elements : elements.subList(0, 1));
+            }
+            queries.add(query);
+        }
+
+        Object result = ((JavascriptExecutor) getDriver()).executeScript(READ_SCRIPT, queries, Arrays.asList(attributes), all);
+
+        List<ElementSnapshot> snapshots = new ArrayList<>();
+        if (result instanceof List)
+            ((List<?>) result).forEach(item -> snapshots.add(ElementSnapshot.from(item)));
+        return new DomSnapshot(snapshots);
+    }
+
     /**
      * <p>
      * <strong>Substitui:</strong>
@@ -1216,12 +1472,11 @@ public class Interactions implements IBrowser, IAwait, IClick, IAlert {
      */
 
     public void moverMouse(By by, String description) {
-        log.core(String.format("Método: moverMouse() - movendo mouse %s", description));
+        log.core("Método: moverMouse() - movendo mouse %s", description);
         try {
 
             Actions mouse = new Actions(getDriver());
-            WebElement elemento = getDriver().findElement(by);
-            mouse.moveToElement(elemento).perform();
+            onElement(by, elemento -> mouse.moveToElement(elemento).perform());
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
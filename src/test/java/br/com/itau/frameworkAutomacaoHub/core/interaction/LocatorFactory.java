@@ -0,0 +1,211 @@
+package br.com.itau.frameworkAutomacaoHub.core.interaction;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.pagefactory.ByChained;
+
+/**
+ * <p>
+ * Fábrica de seletores dinâmicos, montados a partir de um texto ou de um
+ * atributo informado em tempo de execução.
+ * <ul>
+ * <li>os literais são escapados, textos com aspas simples ou duplas geram um
+ * XPath válido;</li>
+ * <li>atributos usam CSS, mais rápido que o XPath equivalente no navegador;</li>
+ * <li>os seletores podem ser limitados a um container, reduzindo a busca a uma
+ * parte da página;</li>
+ * <li>cada combinação de modelo e valor é montada uma única vez.</li>
+ * </ul>
+ */
+public final class LocatorFactory {
+
+    private static final int MAX_CACHED = 10000;
+
+    private static final Map<String, By> cache = new ConcurrentHashMap<>();
+
+    private LocatorFactory() { }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> seletor CSS do elemento com o atributo e o valor
+     * informados, equivalente a {@code //*[@atributo='valor']}.
+     *
+     * @param attribute é o {@link String nome} do atributo.
+     * @param value     é o {@link String valor} do atributo.
+     * @return {@link By seletor}
+     */
+    public static By byAttribute(String attribute, String value) {
+        return cached("attribute", attribute + '\u0000' + value,
+                () -> By.cssSelector(attributeSelector(attribute, value)));
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> seletor do elemento que contém o texto informado,
+     * equivalente a {@code //*[contains(text(), 'texto')]}.
+     *
+     * @param text é o {@link String texto} do elemento.
+     * @return {@link By seletor}
+     */
+    public static By byText(String text) {
+        return cached("text", text, () -> By.xpath(textXpath("//", text)));
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> seletor do elemento cujo texto, com os espaços
+     * normalizados, é exatamente o texto informado.
+     *
+     * @param text é o {@link String texto} do elemento.
+     * @return {@link By seletor}
+     */
+    public static By byNormalizedText(String text) {
+        return cached("normalized", text, () -> By.xpath(normalizedXpath("//", text)));
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> seletor do elemento com o atributo e o valor
+     * informados, buscado apenas dentro do container.
+     *
+     * @param container é o {@link By seletor} do container.
+     * @param attribute é o {@link String nome} do atributo.
+     * @param value     é o {@link String valor} do atributo.
+     * @return {@link By seletor}
+     */
+    public static By byAttribute(By container, String attribute, String value) {
+        return cached("attribute:" + container, attribute + '\u0000' + value, () -> {
+            String css = css(container);
+            if (css != null)
+                return By.cssSelector(css + " " + attributeSelector(attribute, value));
+
+            String xpath = xpath(container);
+            if (xpath != null)
+                return By.xpath(xpath + "//*[@" + attribute + "=" + literal(value) + "]");
+
+            return new ByChained(container, By.cssSelector(attributeSelector(attribute, value)));
+        });
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> seletor do elemento que contém o texto informado,
+     * buscado apenas dentro do container.
+     *
+     * @param container é o {@link By seletor} do container.
+     * @param text      é o {@link String texto} do elemento.
+     * @return {@link By seletor}
+     */
+    public static By byText(By container, String text) {
+        return cached("text:" + container, text, () -> scoped(container, textXpath("//", text), textXpath(".//", text)));
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> seletor do elemento cujo texto normalizado é
+     * exatamente o texto informado, buscado apenas dentro do container.
+     *
+     * @param container é o {@link By seletor} do container.
+     * @param text      é o {@link String texto} do elemento.
+     * @return {@link By seletor}
+     */
+    public static By byNormalizedText(By container, String text) {
+        return cached("normalized:" + container, text, () -> scoped(container, normalizedXpath("//", text), normalizedXpath(".//", text)));
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> converte um texto em um literal XPath, utilizando
+     * {@code concat()} quando o texto possui aspas simples e duplas.
+     *
+     * @param value é o {@link String texto}.
+     * @return {@link String literal} XPath.
+     */
+    public static String literal(String value) {
+        if (value.indexOf('\'') < 0)
+            return "'" + value + "'";
+        if (value.indexOf('"') < 0)
+            return "\"" + value + "\"";
+
+        StringBuilder concat = new StringBuilder("concat(");
+        String[] parts = value.split("'", -1);
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0)
+                concat.append(", \"'\", ");
+            concat.append('\'').append(parts[i]).append('\'');
+        }
+        return concat.append(')').toString();
+    }
+
+    private static By cached(String template, String value, Supplier<By> builder) {
+        String key = template + '\u0001' + value;
+        By by = cache.get(key);
+        if (by != null)
+            return by;
+
+        if (cache.size() >= MAX_CACHED)
+            cache.clear();
+
+        by = builder.get();
+        cache.put(key, by);
+        return by;
+    }
+
+    private static By scoped(By container, String descendant, String relative) {
+        String xpath = xpath(container);
+        if (xpath != null)
+            return By.xpath(xpath + descendant);
+
+        return new ByChained(container, By.xpath(relative));
+    }
+
+    private static String textXpath(String axis, String text) {
+        return axis + "*[contains(text(), " + literal(text) + ")]";
+    }
+
+    private static String normalizedXpath(String axis, String text) {
+        return axis + "*[normalize-space(text())=" + literal(text) + "]";
+    }
+
+    private static String attributeSelector(String attribute, String value) {
+        return "[" + cssIdentifier(attribute) + "=\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"]";
+    }
+
+    static String cssIdentifier(String identifier) {
+        StringBuilder escaped = new StringBuilder();
+        for (char c : identifier.toCharArray()) {
+            if (!Character.isLetterOrDigit(c) && c != '-' && c != '_')
+                escaped.append('\\');
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private static String css(By by) {
+        String[] locator = Scripts.locator(by);
+        if (locator == null)
+            return null;
+
+        switch (locator[0]) {
+            case "css":
+                return locator[1].contains(",") ? null : locator[1];
+            case "id":
+                return attributeSelector("id", locator[1]);
+            case "tag":
+                return locator[1];
+            default:
+                return null;
+        }
+    }
+
+    private static String xpath(By by) {
+        String[] locator = Scripts.locator(by);
+        if (locator == null || !"xpath".equals(locator[0]) || locator[1].contains("|"))
+            return null;
+
+        return locator[1];
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.itau.frameworkAutomacaoHub.core.interaction;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Testes do escape de literais XPath e de identificadores CSS do
+ * {@link LocatorFactory}.
+ */
+public class LocatorFactoryTest {
+
+    @Test
+    public void literalWithoutQuotes() {
+        assertEquals(LocatorFactory.literal("Entrar"), "'Entrar'");
+        assertEquals(LocatorFactory.literal(""), "''");
+    }
+
+    @Test
+    public void literalWithSingleQuote() {
+        assertEquals(LocatorFactory.literal("D'Ávila"), "\"D'Ávila\"");
+    }
+
+    @Test
+    public void literalWithDoubleQuote() {
+        assertEquals(LocatorFactory.literal("diga \"olá\""), "'diga \"olá\"'");
+    }
+
+    @Test
+    public void literalWithBothQuotes() {
+        assertEquals(LocatorFactory.literal("it's \"ok\""), "concat('it', \"'\", 's \"ok\"')");
+        assertEquals(LocatorFactory.literal("'\"'"), "concat('', \"'\", '\"', \"'\", '')");
+    }
+
+    @Test
+    public void cssIdentifierKeepsPlainNames() {
+        assertEquals(LocatorFactory.cssIdentifier("data-test_id2"), "data-test_id2");
+    }
+
+    @Test
+    public void cssIdentifierEscapesSpecialCharacters() {
+        assertEquals(LocatorFactory.cssIdentifier("ng:model"), "ng\\:model");
+        assertEquals(LocatorFactory.cssIdentifier("a.b[c]"), "a\\.b\\[c\\]");
+    }
+
+    @Test
+    public void byAttributeEscapesValue() {
+        By by = LocatorFactory.byAttribute("aria:label", "diga \"olá\" \\ fim");
+        assertEquals(by.toString(), "By.cssSelector: [aria\\:label=\"diga \\\"olá\\\" \\\\ fim\"]");
+        assertSame(LocatorFactory.byAttribute("aria:label", "diga \"olá\" \\ fim"), by);
+    }
+}
@@ -0,0 +1,191 @@
+package br.com.itau.frameworkAutomacaoHub.core.interaction;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import br.com.itau.frameworkAutomacaoHub.core.ChromeDevTools;
+import br.com.itau.frameworkAutomacaoHub.core.Properties;
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+import br.com.itau.frameworkAutomacaoHub.core.report.WaitStats;
+import br.com.itau.frameworkAutomacaoHub.core.report.WaitStats.Outcome;
+
+/**
+ * <p>
+ * Espera a página ficar pronta após uma navegação, conforme a
+ * {@link Readiness condição} da página. Com o {@code PageLoadStrategy.NONE} dos
+ * navegadores headless o {@code get()} retorna imediatamente; esta espera
+ * libera as interações assim que a condição é satisfeita.
+ * <p>
+ * As estratégias de rede e de DOM dependem de um rastreador injetado na
+ * página. No Chrome, quando a condição padrão ou a da página precisa dele, ele
+ * é registrado pelo DevTools antes dos scripts da página
+ * ({@link #install(WebDriver, Readiness)}); nos demais navegadores é instalado
+ * na primeira consulta e as requisições anteriores são percebidas pelo
+ * Resource Timing.
+ * <p>
+ * Se a condição não for satisfeita em {@code READINESS_TIMEOUT} segundos a
+ * execução segue e as esperas de elemento assumem o restante.
+ */
+public final class PageReadiness {
+
+    private static final Logger log = LoggerFactory.getLogger(PageReadiness.class.getSimpleName());
+
+    /** Define {@code __readinessTracker()}, que instala o rastreador de requisições e de alterações da DOM. */
+    static final String TRACKER =
+            "function __readinessTracker() {"
+            + "  var t = window.__readiness;"
+            + "  if (t) return t;"
+            + "  t = window.__readiness = { pending: 0, lastNetwork: performance.now(), lastMutation: performance.now() };"
+            + "  function done() { t.pending = Math.max(t.pending - 1, 0); t.lastNetwork = performance.now(); }"
+            + "  if (window.fetch) {"
+            + "    var nativeFetch = window.fetch;"
+            + "    window.fetch = function () {"
+            + "      t.pending++;"
+            + "      var promise;"
+            + "      try { promise = nativeFetch.apply(this, arguments); } catch (e) { done(); throw e; }"
+            + "      promise.then(done, done);"
+            + "      return promise;"
+            + "    };"
+            + "  }"
+            + "  var nativeSend = XMLHttpRequest.prototype.send;"
+            + "  XMLHttpRequest.prototype.send = function () {"
+            + "    t.pending++;"
+            + "    this.addEventListener('loadend', done);"
+            + "    try { return nativeSend.apply(this, arguments); }"
+            + "    catch (e) { this.removeEventListener('loadend', done); done(); throw e; }"
+            + "  };"
+            + "  function observe() {"
+            + "    new MutationObserver(function () { t.lastMutation = performance.now(); })"
+            + "      .observe(document.documentElement, { childList: true, subtree: true, attributes: true, characterData: true });"
+            + "  }"
+            + "  if (document.documentElement) observe(); else document.addEventListener('DOMContentLoaded', observe);"
+            + "  t.networkIdle = function (idle) {"
+            + "    if (t.pending > 0) return false;"
+            + "    var last = t.lastNetwork, entries = performance.getEntriesByType('resource');"
+            + "    for (var i = 0; i < entries.length; i++) if (entries[i].responseEnd > last) last = entries[i].responseEnd;"
+            + "    return performance.now() - last >= idle;"
+            + "  };"
+            + "  t.domQuiet = function (idle) { return performance.now() - t.lastMutation >= idle; };"
+            + "  return t;"
+            + "}";
+
+    /**
+     * Documento marcado por {@link #markNavigation(WebDriver)} já substituído,
+     * ou endereço alterado no mesmo documento (âncora ou {@code pushState}).
+     */
+    private static final Readiness NAVIGATED = Readiness.script(
+            "!window.__readinessNav || window.__readinessNav !== location.href");
+
+    private static volatile Readiness defaults;
+
+    private static final Set<WebDriver> tracked = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+
+    private PageReadiness() { }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> condição padrão das páginas, definida em
+     * {@code READINESS}.
+     *
+     * @return {@link Readiness condição}
+     */
+    public static Readiness defaults() {
+        if (defaults == null)
+            defaults = Readiness.fromNames(Properties.READINESS);
+        return defaults;
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> registra o rastreador caso a condição padrão
+     * precise dele.
+     *
+     * @param driver é o {@link WebDriver driver}.
+     */
+    public static void install(WebDriver driver) {
+        install(driver, defaults());
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> registra o rastreador para todos os documentos
+     * carregados pelo Chrome, uma vez por navegador, caso a condição precise
+     * dele. Nos demais navegadores não faz nada.
+     *
+     * @param driver    é o {@link WebDriver driver}.
+     * @param readiness é a {@link Readiness condição} da página.
+     */
+    public static void install(WebDriver driver, Readiness readiness) {
+        if (!readiness.needsTracker() || !ChromeDevTools.isAvailable(driver) || !tracked.add(driver))
+            return;
+
+        try {
+            ChromeDevTools.execute(driver, "Page.addScriptToEvaluateOnNewDocument",
+                    Map.of("source", TRACKER + "__readinessTracker();"));
+        } catch (Exception e) {
+            log.warn("Método: install() - Não foi possível registrar o rastreador de carregamento: %s", e.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> marca o documento atual antes de uma navegação.
+     * Com o {@code PageLoadStrategy.NONE} o {@code get()} retorna antes da
+     * troca do documento, e a página anterior, já carregada, satisfaria a
+     * condição; o {@link #await(WebDriver, Readiness)} seguinte aguarda a
+     * marca desaparecer.
+     *
+     * @param driver é o {@link WebDriver driver}.
+     */
+    public static void markNavigation(WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript("window.__readinessNav = location.href;");
+        } catch (WebDriverException e) {
+            // sem documento acessível não há página anterior para confundir a espera
+        }
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> aguarda a condição por até
+     * {@code READINESS_TIMEOUT} segundos.
+     *
+     * @param driver    é o {@link WebDriver driver}.
+     * @param readiness é a {@link Readiness condição} da página.
+     * @return {@code false} caso o tempo tenha se esgotado.
+     */
+    public static boolean await(WebDriver driver, Readiness readiness) {
+        return await(driver, readiness, Duration.ofSeconds(Properties.READINESS_TIMEOUT));
+    }
+
+    public static boolean await(WebDriver driver, Readiness readiness, Duration timeout) {
+        long start = System.nanoTime();
+        AdaptiveWait wait = new AdaptiveWait(timeout);
+        Outcome outcome = Outcome.ERROR;
+
+        Readiness condition = readiness == Readiness.NONE ? readiness : NAVIGATED.and(readiness);
+        try {
+            wait.until(driver, condition::isReady);
+            outcome = Outcome.FOUND;
+            return true;
+
+        } catch (TimeoutException e) {
+            outcome = Outcome.TIMEOUT;
+            log.warn("Método: await() - Página não ficou pronta (%s) em %d s, seguindo com as esperas de elemento.",
+                    readiness, timeout.getSeconds());
+            return false;
+
+        } finally {
+            WaitStats.record("carregamento: " + readiness, System.nanoTime() - start, wait.getPolls(), outcome);
+        }
+    }
+}
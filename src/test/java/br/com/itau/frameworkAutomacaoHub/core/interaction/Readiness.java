@@ -0,0 +1,278 @@
+package br.com.itau.frameworkAutomacaoHub.core.interaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import br.com.itau.frameworkAutomacaoHub.core.Properties;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+
+/**
+ * <p>
+ * Condição que indica quando a página está pronta para receber interações,
+ * aguardada pelo {@link PageReadiness} após cada navegação.
+ * <p>
+ * As estratégias prontas são avaliadas no navegador; combinadas com
+ * {@link #and(Readiness)} viram um único script por consulta. Estratégias
+ * próprias podem ser criadas a partir de um script ({@link #script(String)}) ou
+ * de qualquer predicado do driver ({@link #of(String, Predicate)}).
+ */
+@FunctionalInterface
+public interface Readiness {
+
+    /**
+     * <p>
+     * <strong>Função:</strong> verifica se a página está pronta.
+     *
+     * @param driver é o {@link WebDriver driver}.
+     * @return {@link Boolean boolean}
+     */
+    boolean isReady(WebDriver driver);
+
+    /**
+     * <p>
+     * <strong>Função:</strong> combina esta condição com outra; ambas precisam
+     * ser satisfeitas.
+     *
+     * @param other é a outra {@link Readiness condição}.
+     * @return {@link Readiness condição} combinada.
+     */
+    default Readiness and(Readiness other) {
+        if (this instanceof ScriptReadiness && other instanceof ScriptReadiness)
+            return ((ScriptReadiness) this).merge((ScriptReadiness) other);
+
+        Readiness self = this;
+        return new Readiness() {
+            @Override
+            public boolean isReady(WebDriver driver) {
+                return self.isReady(driver) && other.isReady(driver);
+            }
+
+            @Override
+            public boolean needsTracker() {
+                return self.needsTracker() || other.needsTracker();
+            }
+
+            @Override
+            public String toString() {
+                return self + " + " + other;
+            }
+        };
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> indica se a condição consulta o rastreador de
+     * requisições e de alterações da DOM ({@code __readinessTracker}).
+     *
+     * @return {@link Boolean boolean}
+     */
+    default boolean needsTracker() {
+        return false;
+    }
+
+    /** Não aguarda nada, nem a troca do documento, equivalente ao comportamento anterior. */
+    Readiness NONE = of("NONE", driver -> true);
+
+    static Readiness none() {
+        return NONE;
+    }
+
+    /** {@code document.readyState} igual a {@code complete}. */
+    static Readiness documentReady() {
+        return new ScriptReadiness("DOCUMENT_READY", "document.readyState === 'complete'");
+    }
+
+    /** {@code document.readyState} igual a {@code interactive} ou {@code complete}, sem aguardar imagens e folhas de estilo. */
+    static Readiness domInteractive() {
+        return new ScriptReadiness("DOM_INTERACTIVE", "document.readyState !== 'loading'");
+    }
+
+    /**
+     * Nenhuma requisição {@code fetch}/{@code XMLHttpRequest} em andamento e
+     * nenhum recurso recebido nos últimos {@code NETWORK_IDLE_MS}
+     * milissegundos.
+     */
+    static Readiness networkIdle() {
+        return networkIdle(Properties.NETWORK_IDLE_MS);
+    }
+
+    static Readiness networkIdle(long idleMillis) {
+        return new ScriptReadiness("NETWORK_IDLE", "__readinessTracker().networkIdle(" + idleMillis + ")");
+    }
+
+    /**
+     * Todas as aplicações Angular estáveis ({@code getAllAngularTestabilities})
+     * ou, no AngularJS, sem requisições {@code $http} pendentes. Satisfeita em
+     * páginas sem Angular.
+     */
+    static Readiness angular() {
+        return new ScriptReadiness("ANGULAR",
+                "(function () {"
+                + "  if (window.getAllAngularTestabilities) {"
+                + "    var all = window.getAllAngularTestabilities();"
+                + "    for (var i = 0; i < all.length; i++) if (!all[i].isStable()) return false;"
+                + "    return true;"
+                + "  }"
+                + "  if (window.angular && window.angular.element) {"
+                + "    try {"
+                + "      var injector = window.angular.element(document.querySelector('[ng-app],[data-ng-app]') || document).injector();"
+                + "      return !injector || injector.get('$http').pendingRequests.length === 0;"
+                + "    } catch (e) { return true; }"
+                + "  }"
+                + "  return true;"
+                + "})()");
+    }
+
+    /**
+     * Raiz React montada e DOM sem alterações nos últimos
+     * {@code NETWORK_IDLE_MS} milissegundos. O React não expõe um indicador de
+     * renderização concluída, o silêncio da DOM é a aproximação usada.
+     */
+    static Readiness react() {
+        return new ScriptReadiness("REACT",
+                "(function () {"
+                + "  var root = document.querySelector('[data-reactroot]');"
+                + "  if (!root) {"
+                + "    var candidates = document.body ? document.body.children : [];"
+                + "    for (var i = 0; i < candidates.length && !root; i++)"
+                + "      for (var key in candidates[i])"
+                + "        if (key.indexOf('__reactContainer') === 0 || key === '_reactRootContainer') { root = candidates[i]; break; }"
+                + "  }"
+                + "  return !!root && __readinessTracker().domQuiet(" + Properties.NETWORK_IDLE_MS + ");"
+                + "})()");
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> condição própria escrita em JavaScript, ex.:
+     * {@code Readiness.script("window.appReady === true")}.
+     *
+     * @param expression é a {@link String expressão} avaliada no navegador.
+     * @return {@link Readiness condição}
+     */
+    static Readiness script(String expression) {
+        return new ScriptReadiness("SCRIPT", expression);
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> condição própria avaliada na JVM.
+     *
+     * @param name      é o {@link String nome} usado nos logs.
+     * @param predicate é o {@link Predicate predicado} do driver.
+     * @return {@link Readiness condição}
+     */
+    static Readiness of(String name, Predicate<WebDriver> predicate) {
+        return new Readiness() {
+            @Override
+            public boolean isReady(WebDriver driver) {
+                return predicate.test(driver);
+            }
+
+            @Override
+            public String toString() {
+                return name;
+            }
+        };
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> monta a condição a partir dos nomes configurados
+     * em {@code READINESS}, ex.: {@code DOCUMENT_READY,NETWORK_IDLE}. Nomes
+     * desconhecidos são registrados no log e ignorados; sem nenhum nome válido
+     * é usado {@code DOCUMENT_READY}.
+     *
+     * @param names são os {@link List nomes} das estratégias.
+     * @return {@link Readiness condição}
+     */
+    static Readiness fromNames(List<String> names) {
+        Readiness readiness = null;
+        boolean unknown = false;
+        for (String name : names) {
+            Readiness next;
+            switch (name.trim().toUpperCase(Locale.ROOT)) {
+                case "NONE":
+                    next = none();
+                    break;
+                case "DOCUMENT_READY":
+                    next = documentReady();
+                    break;
+                case "DOM_INTERACTIVE":
+                    next = domInteractive();
+                    break;
+                case "NETWORK_IDLE":
+                    next = networkIdle();
+                    break;
+                case "ANGULAR":
+                    next = angular();
+                    break;
+                case "REACT":
+                    next = react();
+                    break;
+                default:
+                    LoggerFactory.getLogger(Readiness.class.getSimpleName()).error(
+                            "Método: fromNames() - Estratégia de carregamento desconhecida em READINESS: %s", name);
+                    unknown = true;
+                    continue;
+            }
+            readiness = readiness == null ? next : readiness.and(next);
+        }
+        if (readiness == null)
+            return unknown ? documentReady() : none();
+        return readiness;
+    }
+
+    /**
+     * <p>
+     * Condição avaliada por um único script no navegador.
+     */
+    final class ScriptReadiness implements Readiness {
+
+        private final String name;
+        private final List<String> expressions;
+        private final String script;
+
+        ScriptReadiness(String name, String expression) {
+            this(name, List.of(expression));
+        }
+
+        private ScriptReadiness(String name, List<String> expressions) {
+            this.name = name;
+            this.expressions = expressions;
+            this.script = PageReadiness.TRACKER + "return !!(" + String.join(") && !!(", expressions) + ");";
+        }
+
+        @Override
+        public boolean needsTracker() {
+            return expressions.stream().anyMatch(expression -> expression.contains("__readinessTracker"));
+        }
+
+        ScriptReadiness merge(ScriptReadiness other) {
+            List<String> merged = new ArrayList<>(expressions);
+            merged.addAll(other.expressions);
+            return new ScriptReadiness(name + " + " + other.name, merged);
+        }
+
+        @Override
+        public boolean isReady(WebDriver driver) {
+            try {
+                return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(script));
+            } catch (WebDriverException e) {
+                // a página ainda está sendo trocada
+                return false;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.itau.frameworkAutomacaoHub.core.interaction;
+
+import org.openqa.selenium.By;
+
+/**
+ * <p>
+ * Trechos de JavaScript compartilhados pelas interações executadas em um único
+ * script, como {@link DomWait} e {@link Interactions#readAll}.
+ */
+final class Scripts {
+
+    /** Define {@code find(strategy, value)} e {@code findAll(strategy, value)}. */
+    static final String FIND =
+            "function find(strategy, value) {"
+            + "  switch (strategy) {"
+            + "    case 'css': return document.querySelector(value);"
+            + "    case 'id': return document.getElementById(value);"
+            + "    case 'name': return document.getElementsByName(value)[0];"
+            + "    case 'class': return document.getElementsByClassName(value)[0];"
+            + "    case 'tag': return document.getElementsByTagName(value)[0];"
+            + "    case 'xpath': return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+            + "  }"
+            + "  return null;"
+            + "}"
+            + "function findAll(strategy, value) {"
+            + "  switch (strategy) {"
+            + "    case 'css': return Array.prototype.slice.call(document.querySelectorAll(value));"
+            + "    case 'id': var byId = document.getElementById(value); return byId ? [byId] : [];"
+            + "    case 'name': return Array.prototype.slice.call(document.getElementsByName(value));"
+            + "    case 'class': return Array.prototype.slice.call(document.getElementsByClassName(value));"
+            + "    case 'tag': return Array.prototype.slice.call(document.getElementsByTagName(value));"
+            + "    case 'xpath':"
+            + "      var result = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), nodes = [];"
+            + "      for (var i = 0; i < result.snapshotLength; i++) nodes.push(result.snapshotItem(i));"
+            + "      return nodes;"
+            + "  }"
+            + "  return [];"
+            + "}";
+
+    /** Define {@code visible(el)}, aproximação do {@code isDisplayed()} do Selenium. */
+    static final String VISIBLE =
+            "function visible(el) {"
+            + "  var style = window.getComputedStyle(el);"
+            + "  if (style.visibility === 'hidden' || style.display === 'none' || parseFloat(style.opacity) === 0) return false;"
+            + "  var rects = el.getClientRects();"
+            + "  for (var i = 0; i < rects.length; i++) if (rects[i].width > 0 && rects[i].height > 0) return true;"
+            + "  return false;"
+            + "}";
+
+    private Scripts() { }
+
+    /**
+     * Converte o seletor para a estratégia equivalente dos scripts, a partir do
+     * {@code toString()} dos seletores do Selenium, ex.: {@code By.id: login}.
+     * Retorna {@code null} para seletores sem equivalente, como {@code linkText}.
+     */
+    static String[] locator(By by) {
+        String text = by.toString();
+        int separator = text.indexOf(": ");
+        if (separator < 0)
+            return null;
+
+        String value = text.substring(separator + 2);
+        switch (text.substring(0, separator)) {
+            case "By.id":
+                return new String[] { "id", value };
+            case "By.name":
+                return new String[] { "name", value };
+            case "By.className":
+                return new String[] { "class", value };
+            case "By.cssSelector":
+                return new String[] { "css", value };
+            case "By.xpath":
+                return new String[] { "xpath", value };
+            case "By.tagName":
+                return new String[] { "tag", value };
+            default:
+                return null;
+        }
+    }
+}
@@ -2,8 +2,9 @@ package br.com.itau.frameworkAutomacaoHub.core.interaction.interfaces;
 
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.FluentWait;
 
+import br.com.itau.frameworkAutomacaoHub.core.Properties;
+import br.com.itau.frameworkAutomacaoHub.core.interaction.AdaptiveWait;
 import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
 import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
 
@@ -12,19 +13,63 @@ import static br.com.itau.frameworkAutomacaoHub.enums.ExceptionsMessages.*;
 
 import java.time.Duration;
 
+/**
+ * <p>
+ * Interações com os alerts do navegador. A espera pelo alert é limitada a
+ * {@code ALERT_TIMEOUT} segundos; alerts inesperados podem ser tratados pelo
+ * próprio navegador com {@code UNHANDLED_PROMPT}.
+ */
 public interface IAlert {
     Logger log = LoggerFactory.getLogger(IAlert.class.getSimpleName());
 
+    /**
+     * <p>
+     * <strong>Função:</strong> verifica, sem aguardar, se existe um alert aberto
+     * no navegador.
+     *
+     * @return {@link Boolean boolean}
+     */
+    default boolean alertPresent() {
+        try {
+            getDriver().switchTo().alert();
+            return true;
+
+        } catch (NoAlertPresentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> aguarda a abertura de um alert por até
+     * {@code ALERT_TIMEOUT} segundos.
+     *
+     * @return {@link Alert alert} aberto.
+     * @throws TimeoutException caso o alert não seja aberto no tempo limite.
+     */
+    default Alert awaitAlert() {
+        return awaitAlert(Duration.ofSeconds(Properties.ALERT_TIMEOUT));
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> aguarda a abertura de um alert pelo tempo
+     * informado.
+     *
+     * @param timeout é a {@link Duration duração} máxima da espera.
+     * @return {@link Alert alert} aberto.
+     * @throws TimeoutException caso o alert não seja aberto no tempo limite.
+     */
+    default Alert awaitAlert(Duration timeout) {
+        return new AdaptiveWait(timeout).until(getDriver(), ExpectedConditions.alertIsPresent());
+    }
+
     default String getTextAlert() {
         log.core("Método: getTextAlert() - Obtendo o texto do alert do navegador");
         String description = "getTextAlert";
         try {
 
-            Alert alert = new FluentWait<>(getDriver())
-                    .withTimeout(Duration.ofSeconds(20000))
-                    .pollingEvery(Duration.ofMillis(500))
-                    .ignoring(Exception.class)
-                    .until(ExpectedConditions.alertIsPresent());
+            Alert alert = awaitAlert();
 
             return alert.getText();
 
@@ -45,11 +90,7 @@ public interface IAlert {
         String description = "WriteAlert: " + text;
         try {
 
-            Alert alert = new FluentWait<>(getDriver())
-                    .withTimeout(Duration.ofSeconds(20000))
-                    .pollingEvery(Duration.ofMillis(500))
-                    .ignoring(Exception.class)
-                    .until(ExpectedConditions.alertIsPresent());
+            Alert alert = awaitAlert();
 
             alert.sendKeys(text);
 
@@ -69,11 +110,7 @@ public interface IAlert {
         String description = "AcceptAlert " + accept;
         try {
 
-            Alert alert = new FluentWait<>(getDriver())
-                    .withTimeout(Duration.ofSeconds(20000))
-                    .pollingEvery(Duration.ofMillis(500))
-                    .ignoring(Exception.class)
-                    .until(ExpectedConditions.alertIsPresent());
+            Alert alert = awaitAlert();
 
             if (accept)
                 alert.accept();
@@ -1,10 +1,9 @@
 package br.com.itau.frameworkAutomacaoHub.core.interaction.interfaces;
 
 import org.openqa.selenium.*;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.FluentWait;
 
 import br.com.itau.frameworkAutomacaoHub.core.exceptions.InteractionsException;
+import br.com.itau.frameworkAutomacaoHub.core.interaction.DomWait;
 import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
 import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
 
@@ -14,6 +13,8 @@ import static br.com.itau.frameworkAutomacaoHub.enums.ExceptionsMessages.*;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public interface IAwait {
 
@@ -21,8 +22,8 @@ public interface IAwait {
 
     /**
      * <p>
-     * <strong>Função:</strong> compara duas unidades de tempo em segundos e retorna
-     * uma {@link String mensagem} descrevendo o tempo decorrido.
+     * <strong>Função:</strong> compara duas unidades de tempo em milissegundos e
+     * retorna uma {@link String mensagem} descrevendo o tempo decorrido.
      *
      * @param before um {@link Instant momento} anterior no tempo.
      * @param after  um {@link Instant momento} posterior no tempo.
@@ -32,8 +33,8 @@ public interface IAwait {
      */
     default String compareTime(Instant before, Instant after) {
         log.core("Método: compareTime() - Calculando o tempo de carregamento.");
-        Long time = ChronoUnit.SECONDS.between(before, after);
-        return "O tempo decorrido foi de: " + time.toString();
+        long time = ChronoUnit.MILLIS.between(before, after);
+        return String.format("O tempo decorrido foi de: %d ms (%.3f segundos)", time, time / 1000.0);
     }
 
     /**
@@ -51,6 +52,7 @@ public interface IAwait {
      * @param by          é o {@link By seletor} do elemento.
      * @param seconds     é a quantidade de {@link Integer segundos} para aguardar.
      * @param description é o {@link String nome} do elemento.
+     * @return {@link WebElement elemento} aguardado.
      * @throws NoSuchElementException          caso o elemento não existir.
      * @throws TimeoutException                caso exceder o tempo de carregamento
      *                                         do elemento.
@@ -64,18 +66,15 @@ public interface IAwait {
      * @see #compareTime(Instant, Instant)
      * @see #awaitElement(By, String)
      */
-    default void awaitElement(By by, Integer seconds, String description) {
+    default WebElement awaitElement(By by, Integer seconds, String description) {
         Instant before = Instant.now();
-        log.core(String.format("Método: awaitElement() - Aguardando o elemento %s por %s segundos.", description, seconds.toString()));
+        log.core("Método: awaitElement() - Aguardando o elemento %s por %s segundos.", description, seconds.toString());
 
         try {
-            new FluentWait<>(getDriver())
-                    .withTimeout(Duration.ofSeconds(seconds))
-                    .pollingEvery(Duration.ofMillis(500))
-                    .ignoring(Exception.class)
-                    .until(ExpectedConditions.elementToBeClickable(by));
+            WebElement element = DomWait.until(getDriver(), by, DomWait.Condition.CLICKABLE, Duration.ofSeconds(seconds));
             //new WebDriverWait(getDriver(), seconds).until(ExpectedConditions.elementToBeClickable(getDriver().findElement(by)));
             log.core(compareTime(before, Instant.now()));
+            return element;
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
@@ -95,6 +94,7 @@ public interface IAwait {
         } catch (Exception e) {
             EXCEPTION.getException(e, description);
         }
+        return null;
     }
 
     /**
@@ -111,6 +111,7 @@ public interface IAwait {
      *
      * @param by          é o {@link By seletor} do elemento.
      * @param description é o {@link String nome} do elemento.
+     * @return {@link WebElement elemento} aguardado.
      * @throws NoSuchElementException          caso o elemento não existir.
      * @throws NoSuchElementException          caso o elemento não existir.
      * @throws TimeoutException                caso exceder o tempo de carregamento
@@ -125,21 +126,18 @@ public interface IAwait {
      * @see #compareTime(Instant, Instant)
      * @see #awaitElement(By, Integer, String)
      */
-    default void awaitElement(By by, String description) {
+    default WebElement awaitElement(By by, String description) {
         Instant before = Instant.now();
-        log.core(String.format("Método: awaitElement() - Aguardando o elemento %s por 15 segundos.", description));
+        log.core("Método: awaitElement() - Aguardando o elemento %s por 15 segundos.", description);
 
         try {
 
 //			WebDriverWait wait = new WebDriverWait(getDriver(), 20);
 //			wait.until(ExpectedConditions.elementToBeClickable(by));
-            new FluentWait<>(getDriver())
-                    .withTimeout(Duration.ofMillis(20000))
-                    .pollingEvery(Duration.ofMillis(500))
-                    .ignoring(NoSuchElementException.class)
-                    .until(ExpectedConditions.elementToBeClickable(by));
+            WebElement element = DomWait.until(getDriver(), by, DomWait.Condition.CLICKABLE, Duration.ofMillis(20000));
 
             log.core(compareTime(before, Instant.now()));
+            return element;
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
@@ -159,6 +157,7 @@ public interface IAwait {
         } catch (Exception e) {
             EXCEPTION.getException(e, description);
         }
+        return null;
     }
 
     /**
@@ -175,8 +174,9 @@ public interface IAwait {
      *
      * @param by          é o {@link By seletor} do elemento.
      * @param timeout	  é a duração da espera pela busca do elemento.
-     * @param polling	  é o tempo de tentativa de busca do elemento.
+     * @param polling	  é o intervalo máximo, em segundos, entre as tentativas de busca do elemento.
      * @param description é o {@link String nome} do elemento.
+     * @return {@link WebElement elemento} aguardado.
      * @throws NoSuchElementException          caso o elemento não existir.
      * @throws NoSuchElementException          caso o elemento não existir.
      * @throws TimeoutException                caso exceder o tempo de carregamento
@@ -191,19 +191,16 @@ public interface IAwait {
      * @see #compareTime(Instant, Instant)
      * @see #awaitElement(By, Integer, String)
      */
-    default void awaitElement(By by, int timeout, int polling, String description) {
+    default WebElement awaitElement(By by, int timeout, int polling, String description) {
         Instant before = Instant.now();
-        log.core(String.format("Método: awaitElement() - Aguardando o elemento %s por %d segundos.", description, timeout));
+        log.core("Método: awaitElement() - Aguardando o elemento %s por %d segundos.", description, timeout);
 
         try {
 
-            new FluentWait<>(getDriver())
-                    .withTimeout(Duration.ofSeconds(timeout))
-                    .pollingEvery(Duration.ofSeconds(polling))
-                    .ignoring(Exception.class)
-                    .until(ExpectedConditions.elementToBeClickable(by));
+            WebElement element = DomWait.until(getDriver(), by, DomWait.Condition.CLICKABLE, Duration.ofSeconds(timeout), Duration.ofSeconds(polling));
 
             log.core(compareTime(before, Instant.now()));
+            return element;
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
@@ -223,5 +220,56 @@ public interface IAwait {
         } catch (Exception e) {
             EXCEPTION.getException(e, description);
         }
+        return null;
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> aguarda o elemento ficar clicável e executa a ação
+     * sobre o mesmo {@link WebElement elemento} retornado pela espera, sem uma
+     * nova busca. Caso o elemento seja recriado na DOM durante a ação, ele é
+     * buscado novamente e a ação é repetida uma única vez.
+     * <p>
+     * As exceções do Selenium são propagadas para o tratamento do método
+     * chamador.
+     *
+     * @param by          é o {@link By seletor} do elemento.
+     * @param description é o {@link String nome} do elemento.
+     * @param action      é a {@link Consumer ação} executada sobre o elemento.
+     * @see #awaitAndGet(By, String, Function)
+     */
+    default void awaitAndAct(By by, String description, Consumer<WebElement> action) {
+        awaitAndGet(by, description, element -> {
+            action.accept(element);
+            return null;
+        });
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> aguarda o elemento ficar clicável e retorna o
+     * resultado da função aplicada ao mesmo {@link WebElement elemento} retornado
+     * pela espera. Caso o elemento seja recriado na DOM, ele é buscado novamente
+     * e a função é repetida uma única vez.
+     *
+     * @param <T>         é o tipo do resultado.
+     * @param by          é o {@link By seletor} do elemento.
+     * @param description é o {@link String nome} do elemento.
+     * @param action      é a {@link Function função} aplicada ao elemento.
+     * @return resultado da função.
+     * @see #awaitAndAct(By, String, Consumer)
+     */
+    default <T> T awaitAndGet(By by, String description, Function<WebElement, T> action) {
+        log.core("Método: awaitAndGet() - Aguardando o elemento %s.", description);
+        WebElement element = DomWait.until(getDriver(), by, DomWait.Condition.CLICKABLE, Duration.ofMillis(20000));
+
+        try {
+            return action.apply(element);
+
+        } catch (StaleElementReferenceException e) {
+            log.warn("Método: awaitAndGet() - o elemento %s foi recriado na DOM, buscando novamente.", description);
+            element = DomWait.until(getDriver(), by, DomWait.Condition.CLICKABLE, Duration.ofMillis(20000));
+            return action.apply(element);
+        }
     }
 }
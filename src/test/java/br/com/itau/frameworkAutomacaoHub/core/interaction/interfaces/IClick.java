@@ -1,10 +1,10 @@
 package br.com.itau.frameworkAutomacaoHub.core.interaction.interfaces;
 
 import org.openqa.selenium.*;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.FluentWait;
 
 import br.com.itau.frameworkAutomacaoHub.core.exceptions.InteractionsException;
+import br.com.itau.frameworkAutomacaoHub.core.interaction.DomWait;
+import br.com.itau.frameworkAutomacaoHub.core.interaction.LocatorFactory;
 import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
 import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
 
@@ -40,11 +40,10 @@ public interface IClick extends IAwait {
      * @see InteractionsException
      */
     default void click(By by, String description) {
-        log.core(String.format("Método: click() - Clicando no elemento %s", description));
+        log.core("Método: click() - Clicando no elemento %s", description);
         try {
 
-            awaitElement(by, description);
-            getDriver().findElement(by).click();
+            awaitAndAct(by, description, WebElement::click);
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, description);
@@ -83,14 +82,11 @@ public interface IClick extends IAwait {
      * @see InteractionsException
      */
     default void clickByAttribute(String attribute, String value) {
-        log.core(String.format("Método: clickByAttribute() - Clicando no elemento baseado no atributo %s", attribute));
+        log.core("Método: clickByAttribute() - Clicando no elemento baseado no atributo %s", attribute);
         try {
-            By element = By.xpath(
-                    String.format("//*[@%s='%s']", attribute, value)
-            );
+            By element = LocatorFactory.byAttribute(attribute, value);
 
-            awaitElement(element, attribute);
-            getDriver().findElement(element).click();
+            awaitAndAct(element, attribute, WebElement::click);
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, attribute);
@@ -128,14 +124,11 @@ public interface IClick extends IAwait {
      * @see InteractionsException
      */
     default void clickByText(String text) {
-        log.core(String.format("Método: clickByText() - Clicando no elemento baseado no texto: %s", text));
+        log.core("Método: clickByText() - Clicando no elemento baseado no texto: %s", text);
         try {
-            By element = By.xpath(
-                    String.format("//*[contains(text(), '%s')]", text)
-            );
+            By element = LocatorFactory.byText(text);
 
-            awaitElement(element, text);
-            getDriver().findElement(element).click();
+            awaitAndAct(element, text, WebElement::click);
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, text);
@@ -174,14 +167,11 @@ public interface IClick extends IAwait {
      * @see InteractionsException
      */
     default void clickByNormalizeText(String text) {
-        log.core(String.format("Método: clickByNormalizeText() - Clicando no elemento baseado no texto normalizado: %s", text));
+        log.core("Método: clickByNormalizeText() - Clicando no elemento baseado no texto normalizado: %s", text);
         try {
-            By element = By.xpath(
-                    String.format("//*[normalize-space(text())='%s']", text)
-            );
+            By element = LocatorFactory.byNormalizedText(text);
 
-            awaitElement(element, text);
-            getDriver().findElement(element).click();
+            awaitAndAct(element, text, WebElement::click);
 
         } catch (NoSuchElementException e) {
             NO_SUCH_ELEMENT.getException(e, text);
@@ -203,6 +193,46 @@ public interface IClick extends IAwait {
         }
     }
 
+    /**
+     * <strong>Função:</strong> clica no elemento com o atributo especificado,
+     * buscado apenas dentro do container.
+     *
+     * @param container é o {@link By seletor} do container, ex.: o formulário ou a tabela.
+     * @param attribute é o {@link String atributo} do elemento.
+     * @param value     é o {@link String valor} do atributo.
+     * @see #clickByAttribute(String, String)
+     * @see LocatorFactory#byAttribute(By, String, String)
+     */
+    default void clickByAttribute(By container, String attribute, String value) {
+        click(LocatorFactory.byAttribute(container, attribute, value), attribute);
+    }
+
+    /**
+     * <strong>Função:</strong> clica no elemento que contém o texto especificado,
+     * buscado apenas dentro do container.
+     *
+     * @param container é o {@link By seletor} do container, ex.: o menu ou o modal.
+     * @param text      é o {@link String texto} do elemento.
+     * @see #clickByText(String)
+     * @see LocatorFactory#byText(By, String)
+     */
+    default void clickByText(By container, String text) {
+        click(LocatorFactory.byText(container, text), text);
+    }
+
+    /**
+     * <strong>Função:</strong> clica no elemento com o <strong>exato</strong> texto
+     * especificado, buscado apenas dentro do container.
+     *
+     * @param container é o {@link By seletor} do container, ex.: o menu ou o modal.
+     * @param text      é o {@link String texto} do elemento.
+     * @see #clickByNormalizeText(String)
+     * @see LocatorFactory#byNormalizedText(By, String)
+     */
+    default void clickByNormalizeText(By container, String text) {
+        click(LocatorFactory.byNormalizedText(container, text), text);
+    }
+
     /**
      * <strong>Função:</strong> clica no elemento, porém ele não tem tratamento de exceções.
      * <p>Esse método não contém tratativa de exceção.</p>
@@ -211,15 +241,9 @@ public interface IClick extends IAwait {
      * @param description é o {@link String nome} do elemento.
      */
     default void clickWithoutException(By by, int seconds, String description) {
-        log.core(String.format("Método: clickWithoutException() - Clicando no elemento %s", description));
-
-        new FluentWait<>(getDriver())
-                .withTimeout(Duration.ofSeconds(seconds))
-                .pollingEvery(Duration.ofMillis(500))
-                .ignoring(Exception.class)
-                .until(ExpectedConditions.elementToBeClickable(by));
+        log.core("Método: clickWithoutException() - Clicando no elemento %s", description);
 
-        getDriver().findElement(by).click();
+        DomWait.until(getDriver(), by, DomWait.Condition.CLICKABLE, Duration.ofSeconds(seconds)).click();
     }
     
 }
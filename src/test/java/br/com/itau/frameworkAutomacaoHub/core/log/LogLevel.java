@@ -0,0 +1,23 @@
+package br.com.itau.frameworkAutomacaoHub.core.log;
+
+/**
+ * <p>
+ * Níveis do {@link Logger}, do mais detalhado para o menos detalhado. O nível
+ * mínimo exibido é definido por {@code LOG_LEVEL}, ex.: {@code LOG_LEVEL=INFO}
+ * desliga as mensagens {@code CORE} na esteira.
+ */
+public enum LogLevel {
+
+    TRACE,
+    DEBUG,
+    CORE,
+    INFO,
+    WARN,
+    ERROR,
+    MANUAL,
+    OFF;
+
+    public boolean isEnabled(LogLevel threshold) {
+        return this != OFF && compareTo(threshold) >= 0;
+    }
+}
@@ -1,8 +1,27 @@
 package br.com.itau.frameworkAutomacaoHub.core.log;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * <p>
+ * Logger assíncrono do framework. As mensagens são enfileiradas em um buffer
+ * limitado e escritas no {@code System.out} por uma única thread em segundo
+ * plano, sem disputa entre as threads dos cenários.
+ * <p>
+ * Mensagens abaixo do nível configurado em {@code LOG_LEVEL} são descartadas
+ * antes de qualquer formatação; prefira os métodos parametrizados, ex.:
+ * {@code log.core("Método: url() - Acessando o endereço: %s.", url)}.
+ * <p>
+ * Com o buffer cheio a thread chamadora aguarda a escrita, nenhuma mensagem é
+ * perdida.
+ */
 public class Logger {
 
     private final String log;
@@ -26,15 +45,102 @@ public class Logger {
     private static final String TRACE = ANSI_CYAN + "TRACE" + ANSI_RESET;
     private static final String CORE = ANSI_PURPLE + "CORE" + ANSI_RESET;
 
+    private static final Pattern FUNCTION_NAME = Pattern.compile("([a-zA-Z_{1}][a-zA-Z0-9_]+)(?=\\()");
+
+    private static final int CAPACITY = 8192;
+
+    private static final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private static final AtomicLong published = new AtomicLong();
+    private static final Object written = new Object();
+    private static volatile long writtenCount;
+
+    private static volatile LogLevel threshold = initialLevel();
+
     private final String SHOW_LOG;
 
-    private void print(Object any) {
-        System.out.println(any);
+    private final String prefixInfo;
+    private final String prefixWarn;
+    private final String prefixError;
+    private final String prefixDebug;
+    private final String prefixTrace;
+    private final String prefixCore;
+    private final String prefixManual;
+
+    static {
+        Thread writer = new Thread(Logger::drain, "logger-writer");
+        writer.setDaemon(true);
+        writer.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(5000), "logger-flush"));
+    }
+
+    private static final class Entry {
+        private final String prefix;
+        private final String text;
+
+        private Entry(String prefix, String text) {
+            this.prefix = prefix;
+            this.text = text;
+        }
+    }
+
+    private static LogLevel initialLevel() {
+        String level = System.getProperty("LOG_LEVEL", System.getenv("LOG_LEVEL"));
+        try {
+            return level == null || level.isBlank() ? LogLevel.TRACE : LogLevel.valueOf(level.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return LogLevel.TRACE;
+        }
+    }
+
+    private static void drain() {
+        List<Entry> batch = new ArrayList<>();
+        StringBuilder out = new StringBuilder();
+
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+
+            for (Entry entry : batch)
+                out.append(entry.prefix).append(finalText(entry.text)).append(System.lineSeparator());
+
+            System.out.print(out);
+            System.out.flush();
+
+            synchronized (written) {
+                writtenCount += batch.size();
+                written.notifyAll();
+            }
+
+            batch.clear();
+            out.setLength(0);
+        }
+    }
+
+    private void print(LogLevel level, String prefix, String text) {
+        if (!level.isEnabled(threshold))
+            return;
+
+        published.incrementAndGet();
+        try {
+            queue.put(new Entry(prefix, text));
+        } catch (InterruptedException e) {
+            published.decrementAndGet();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void print(LogLevel level, String prefix, String format, Object... args) {
+        if (level.isEnabled(threshold))
+            print(level, prefix, String.format(format, args));
     }
 
-    private String changeCollorFunctionName(String text) {
-        Pattern pattern = Pattern.compile("([a-zA-Z_{1}][a-zA-Z0-9_]+)(?=\\()");
-        Matcher matcher = pattern.matcher(text);
+    private static String changeCollorFunctionName(String text) {
+        Matcher matcher = FUNCTION_NAME.matcher(text);
         String functionName;
 
         if (matcher.find()) {
@@ -45,40 +151,114 @@ public class Logger {
         return text;
     }
 
-    private String finalText(String text) {
+    private static String finalText(String text) {
         return changeCollorFunctionName(text) + ANSI_RESET;
     }
 
     public Logger(String className) {
         this.log = className;
         this.SHOW_LOG = ANSI_RED + log + ANSI_RESET;
+
+        this.prefixInfo = "[" + INFO + "] [" + SHOW_LOG + "] - ";
+        this.prefixWarn = "[" + WARN + "] [" + SHOW_LOG + "] - ";
+        this.prefixError = "[" + ERROR + "] [" + SHOW_LOG + "] - ";
+        this.prefixDebug = "[" + DEBUG + "] [" + SHOW_LOG + "] - ";
+        this.prefixTrace = "[" + TRACE + "] [" + SHOW_LOG + "] - ";
+        this.prefixCore = "[" + CORE + "] [" + SHOW_LOG + "] - ";
+        this.prefixManual = "\u001B[33;1;4m[MANUAL] [" + this.log + "] - ";
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> altera o nível mínimo das mensagens exibidas.
+     *
+     * @param level é o {@link LogLevel nível} mínimo.
+     */
+    public static void setLevel(LogLevel level) {
+        threshold = level;
+    }
+
+    public static LogLevel getLevel() {
+        return threshold;
+    }
+
+    public static boolean isEnabled(LogLevel level) {
+        return level.isEnabled(threshold);
+    }
+
+    /**
+     * <p>
+     * <strong>Função:</strong> aguarda a escrita das mensagens enfileiradas até o
+     * momento da chamada.
+     *
+     * @param timeoutMillis é o {@link Long tempo} máximo de espera em milissegundos.
+     */
+    public static void flush(long timeoutMillis) {
+        long target = published.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        synchronized (written) {
+            long remaining;
+            while (writtenCount < target && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(written, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
     }
 
     public void info(String text) {
-        this.print("[" + INFO + "] [" + SHOW_LOG + "] - " + finalText(text));
+        this.print(LogLevel.INFO, prefixInfo, text);
+    }
+
+    public void info(String format, Object... args) {
+        this.print(LogLevel.INFO, prefixInfo, format, args);
     }
 
     public void warn(String text) {
-        this.print("[" + WARN + "] [" + SHOW_LOG + "] - " + finalText(text));
+        this.print(LogLevel.WARN, prefixWarn, text);
+    }
+
+    public void warn(String format, Object... args) {
+        this.print(LogLevel.WARN, prefixWarn, format, args);
     }
 
     public void error(String text) {
-        this.print("[" + ERROR + "] [" + SHOW_LOG + "] - " + finalText(text));
+        this.print(LogLevel.ERROR, prefixError, text);
+    }
+
+    public void error(String format, Object... args) {
+        this.print(LogLevel.ERROR, prefixError, format, args);
     }
 
     public void debug(String text) {
-        this.print("[" + DEBUG + "] [" + SHOW_LOG + "] - " + finalText(text));
+        this.print(LogLevel.DEBUG, prefixDebug, text);
+    }
+
+    public void debug(String format, Object... args) {
+        this.print(LogLevel.DEBUG, prefixDebug, format, args);
     }
 
     public void trace(String text) {
-        this.print("[" + TRACE + "] [" + SHOW_LOG + "] - " + finalText(text));
+        this.print(LogLevel.TRACE, prefixTrace, text);
+    }
+
+    public void trace(String format, Object... args) {
+        this.print(LogLevel.TRACE, prefixTrace, format, args);
     }
 
     public void core(String text) {
-        this.print("[" + CORE + "] [" + SHOW_LOG + "] - " + finalText(text));
+        this.print(LogLevel.CORE, prefixCore, text);
+    }
+
+    public void core(String format, Object... args) {
+        this.print(LogLevel.CORE, prefixCore, format, args);
     }
 
     public void manual(String text) {
-        this.print("\u001B[33;1;4m[MANUAL] [" + this.log + "] - " + finalText(text));
+        this.print(LogLevel.MANUAL, prefixManual, text);
     }
 }
@@ -1,10 +1,15 @@
 package br.com.itau.frameworkAutomacaoHub.core.log;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class LoggerFactory {
 
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
+
     private LoggerFactory(){}
 
     public static Logger getLogger(String className){
-        return new Logger(className);
+        return loggers.computeIfAbsent(className, Logger::new);
     }
 }
@@ -0,0 +1,29 @@
+package br.com.itau.frameworkAutomacaoHub.core.network;
+
+/**
+ * <p>
+ * Modo de funcionamento do {@link NetworkInterceptor}, definido em
+ * {@code INTERCEPT_MODE}. Os stubs configurados são aplicados em todos os
+ * modos, exceto {@link #OFF}.
+ */
+public enum InterceptMode {
+
+	/** Sem interceptação. */
+	OFF,
+
+	/** Todas as requisições vão à rede e as respostas são gravadas no cache. */
+	RECORD,
+
+	/**
+	 * As respostas vêm apenas do cache; requisições não gravadas falham com 504,
+	 * sem acesso à rede. No proxy dos navegadores sem DevTools as conexões
+	 * HTTPS são recusadas.
+	 */
+	REPLAY,
+
+	/** Usa o cache quando a resposta já foi gravada e grava as demais. */
+	AUTO,
+
+	/** Apenas os stubs são aplicados; as demais requisições vão à rede. */
+	STUB
+}
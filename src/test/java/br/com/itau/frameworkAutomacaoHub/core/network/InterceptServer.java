@@ -0,0 +1,322 @@
+package br.com.itau.frameworkAutomacaoHub.core.network;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.openqa.selenium.json.Json;
+
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+import br.com.itau.frameworkAutomacaoHub.core.network.NetworkInterceptor.Decision;
+
+/**
+ * <p>
+ * Servidor local do {@link NetworkInterceptor}, ouvindo apenas em
+ * {@code 127.0.0.1}. Atende dois tipos de requisição:
+ * <ul>
+ * <li>{@code POST /__network/lookup} e {@code POST /__network/record}, usados
+ * pelo script injetado no Chrome;</li>
+ * <li>requisições de proxy HTTP dos demais navegadores. Requisições
+ * {@code http://} são interceptadas; túneis {@code CONNECT} (HTTPS) são
+ * repassados sem interceptação, pois exigiriam um certificado próprio, ou
+ * recusados com 502 quando o modo não permite acessar a rede.</li>
+ * </ul>
+ * Cada conexão atende uma única requisição ({@code Connection: close}).
+ */
+class InterceptServer implements Closeable {
+
+	private static final Logger log = LoggerFactory.getLogger(InterceptServer.class.getSimpleName());
+
+	private static final Json JSON = new Json();
+
+	static final String PREFIX = "/__network/";
+
+	private static final Set<String> HOP_BY_HOP = Set.of("connection", "content-length", "expect", "host", "upgrade",
+			"keep-alive", "proxy-connection", "proxy-authorization", "te", "trailer", "transfer-encoding", "accept-encoding");
+
+	private final NetworkInterceptor interceptor;
+	private final ServerSocket socket;
+	private final ExecutorService workers = Executors.newCachedThreadPool(r -> {
+		Thread t = new Thread(r, "network-interceptor");
+		t.setDaemon(true);
+		return t;
+	});
+	private final HttpClient client = HttpClient.newBuilder()
+			.followRedirects(HttpClient.Redirect.NEVER)
+			.connectTimeout(Duration.ofSeconds(30))
+			.build();
+
+	InterceptServer(NetworkInterceptor interceptor) throws IOException {
+		this.interceptor = interceptor;
+		this.socket = new ServerSocket(0, 100, InetAddress.getLoopbackAddress());
+		workers.submit(this::accept);
+	}
+
+	int getPort() {
+		return socket.getLocalPort();
+	}
+
+	@Override
+	public void close() {
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// o servidor já foi encerrado
+		}
+		workers.shutdownNow();
+	}
+
+	private void accept() {
+		while (!socket.isClosed()) {
+			try {
+				Socket connection = socket.accept();
+				workers.submit(() -> handle(connection));
+			} catch (IOException e) {
+				if (!socket.isClosed())
+					log.warn("Método: accept() - Falha ao aceitar a conexão: %s", e.getMessage());
+			}
+		}
+	}
+
+	private void handle(Socket connection) {
+		try (Socket client = connection) {
+			InputStream in = new BufferedInputStream(client.getInputStream());
+			OutputStream out = client.getOutputStream();
+
+			String requestLine = readLine(in);
+			if (requestLine == null || requestLine.isEmpty())
+				return;
+
+			String[] parts = requestLine.split(" ");
+			if (parts.length < 3) {
+				write(out, 400, Map.of(), new byte[0]);
+				return;
+			}
+
+			String method = parts[0].toUpperCase(Locale.ROOT);
+			String target = parts[1];
+			Map<String, String> headers = new LinkedHashMap<>();
+			for (String line = readLine(in); line != null && !line.isEmpty(); line = readLine(in)) {
+				int colon = line.indexOf(':');
+				if (colon > 0)
+					headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+			}
+
+			if ("CONNECT".equals(method)) {
+				tunnel(client, in, out, target);
+				return;
+			}
+
+			int length = Integer.parseInt(headers.getOrDefault("content-length", "0"));
+			byte[] body = in.readNBytes(length);
+
+			if (target.startsWith(PREFIX))
+				endpoint(out, method, target.substring(PREFIX.length()), body);
+			else if (target.startsWith("http://"))
+				proxy(out, method, target, headers, body);
+			else
+				write(out, 404, Map.of(), new byte[0]);
+
+		} catch (IOException | RuntimeException e) {
+			log.debug("Método: handle() - Conexão encerrada: %s", e.getMessage());
+		}
+	}
+
+	private void endpoint(OutputStream out, String method, String action, byte[] body) throws IOException {
+		Map<String, String> cors = new LinkedHashMap<>();
+		cors.put("Access-Control-Allow-Origin", "*");
+		cors.put("Access-Control-Allow-Methods", "POST, OPTIONS");
+		cors.put("Access-Control-Allow-Headers", "content-type");
+		cors.put("Access-Control-Allow-Private-Network", "true");
+
+		if ("OPTIONS".equals(method)) {
+			write(out, 204, cors, new byte[0]);
+			return;
+		}
+
+		Map<String, Object> json = JSON.toType(new String(body, StandardCharsets.UTF_8), Json.MAP_TYPE);
+		String requestMethod = String.valueOf(json.get("method"));
+		String url = String.valueOf(json.get("url"));
+		String requestBody = json.get("body") == null ? "" : String.valueOf(json.get("body"));
+
+		Map<String, Object> result = new LinkedHashMap<>();
+		if (action.startsWith("lookup")) {
+			Decision decision = interceptor.decide(requestMethod, url, requestBody);
+			result.put("action", decision.getAction().name().toLowerCase(Locale.ROOT));
+			if (decision.getResponse() != null) {
+				RecordedResponse response = decision.getResponse();
+				String text = response.text();
+				result.put("status", response.getStatus());
+				result.put("headers", response.getHeaders());
+				if (text != null)
+					result.put("body", text);
+				else
+					result.put("bodyBase64", Base64.getEncoder().encodeToString(response.getBody()));
+			}
+		} else if (action.startsWith("record")) {
+			RecordedResponse response = RecordedResponse.fromMap(json.get("response") instanceof Map
+					? castMap(json.get("response")) : Map.of());
+			interceptor.record(requestMethod, url, requestBody, decoded(response));
+			result.put("recorded", true);
+		}
+
+		cors.put("Content-Type", "application/json; charset=UTF-8");
+		write(out, 200, cors, JSON.toJson(result).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * O script recebe o corpo já descompactado pelo navegador, os cabeçalhos de
+	 * codificação e tamanho do original não valem para ele.
+	 */
+	private static RecordedResponse decoded(RecordedResponse response) {
+		Map<String, String> headers = new LinkedHashMap<>();
+		response.getHeaders().forEach((name, value) -> {
+			String lower = name.toLowerCase(Locale.ROOT);
+			if (!"content-encoding".equals(lower) && !"content-length".equals(lower))
+				headers.put(name, value);
+		});
+		return new RecordedResponse(response.getStatus(), headers, response.getBody());
+	}
+
+	private void proxy(OutputStream out, String method, String url, Map<String, String> headers, byte[] body) throws IOException {
+		String requestBody = new String(body, StandardCharsets.UTF_8);
+		Decision decision = interceptor.decide(method, url, requestBody);
+		if (decision.getResponse() != null) {
+			write(out, decision.getResponse().getStatus(), decision.getResponse().getHeaders(), decision.getResponse().getBody());
+			return;
+		}
+
+		RecordedResponse response;
+		try {
+			response = forward(method, url, headers, body);
+		} catch (IOException e) {
+			write(out, 502, Map.of("Content-Type", "text/plain; charset=UTF-8"),
+					("Falha ao acessar " + url + ": " + e.getMessage()).getBytes(StandardCharsets.UTF_8));
+			return;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		if (decision.getAction() == NetworkInterceptor.Action.RECORD)
+			interceptor.record(method, url, requestBody, response);
+		write(out, response.getStatus(), response.getHeaders(), response.getBody());
+	}
+
+	private RecordedResponse forward(String method, String url, Map<String, String> headers, byte[] body) throws IOException, InterruptedException {
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+				.method(method, body.length == 0 ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofByteArray(body));
+		headers.forEach((name, value) -> {
+			if (HOP_BY_HOP.contains(name))
+				return;
+			try {
+				request.header(name, value);
+			} catch (IllegalArgumentException e) {
+				// cabeçalho restrito do HttpClient
+			}
+		});
+
+		HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+		Map<String, String> responseHeaders = new LinkedHashMap<>();
+		response.headers().map().forEach((name, values) -> {
+			if (!HOP_BY_HOP.contains(name.toLowerCase(Locale.ROOT)) && !name.startsWith(":"))
+				responseHeaders.put(name, String.join(", ", values));
+		});
+		return new RecordedResponse(response.statusCode(), responseHeaders, response.body());
+	}
+
+	private void tunnel(Socket client, InputStream in, OutputStream out, String target) throws IOException {
+		int colon = target.lastIndexOf(':');
+		String host = colon > 0 ? target.substring(0, colon) : target;
+		int port = colon > 0 ? Integer.parseInt(target.substring(colon + 1)) : 443;
+
+		if (!interceptor.allowsTunnel(host, port)) {
+			write(out, 502, Map.of("Content-Type", "text/plain; charset=UTF-8"),
+					("Conexão HTTPS recusada pelo interceptador de rede: " + target).getBytes(StandardCharsets.UTF_8));
+			return;
+		}
+
+		try (Socket upstream = new Socket(host, port)) {
+			out.write("HTTP/1.1 200 Connection Established\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+			out.flush();
+
+			workers.submit(() -> {
+				try {
+					in.transferTo(upstream.getOutputStream());
+					upstream.shutdownOutput();
+				} catch (IOException e) {
+					// uma das pontas encerrou a conexão
+				}
+			});
+			upstream.getInputStream().transferTo(out);
+		} catch (SocketException e) {
+			// uma das pontas encerrou a conexão
+		}
+	}
+
+	private static void write(OutputStream out, int status, Map<String, String> headers, byte[] body) throws IOException {
+		StringBuilder head = new StringBuilder("HTTP/1.1 ").append(status).append(' ').append(reason(status)).append("\r\n");
+		headers.forEach((name, value) -> {
+			if (!HOP_BY_HOP.contains(name.toLowerCase(Locale.ROOT)))
+				head.append(name).append(": ").append(value).append("\r\n");
+		});
+		head.append("Content-Length: ").append(body.length).append("\r\n");
+		head.append("Connection: close\r\n\r\n");
+
+		out.write(head.toString().getBytes(StandardCharsets.ISO_8859_1));
+		out.write(body);
+		out.flush();
+	}
+
+	private static String reason(int status) {
+		switch (status) {
+			case 200: return "OK";
+			case 204: return "No Content";
+			case 400: return "Bad Request";
+			case 404: return "Not Found";
+			case 502: return "Bad Gateway";
+			case 504: return "Gateway Timeout";
+			default: return "Status";
+		}
+	}
+
+	private static String readLine(InputStream in) throws IOException {
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		int b;
+		while ((b = in.read()) != -1) {
+			if (b == '\n')
+				break;
+			if (b != '\r')
+				line.write(b);
+		}
+		if (b == -1 && line.size() == 0)
+			return null;
+		return line.toString(StandardCharsets.ISO_8859_1);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> castMap(Object value) {
+		return (Map<String, Object>) value;
+	}
+}
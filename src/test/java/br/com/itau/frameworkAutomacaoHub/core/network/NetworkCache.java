@@ -0,0 +1,118 @@
+package br.com.itau.frameworkAutomacaoHub.core.network;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.json.Json;
+
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+
+/**
+ * <p>
+ * Cache em disco das respostas gravadas. Cada resposta fica em um arquivo
+ * {@code <chave>.json}, onde a chave é o SHA-256 do método, da URL e do corpo
+ * da requisição. Os arquivos podem ser versionados junto com os testes para
+ * permitir a execução sem rede.
+ */
+public class NetworkCache {
+
+	private static final Logger log = LoggerFactory.getLogger(NetworkCache.class.getSimpleName());
+
+	private static final Json JSON = new Json();
+
+	private final Path directory;
+	private final Map<String, RecordedResponse> loaded = new ConcurrentHashMap<>();
+
+	public NetworkCache(Path directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> calcula a chave da requisição.
+	 *
+	 * @param method é o {@link String método} HTTP.
+	 * @param url    é a {@link String URL} completa.
+	 * @param body   é o {@link String corpo} da requisição, vazio quando não houver.
+	 * @return {@link String chave} em hexadecimal.
+	 */
+	public static String key(String method, String url, String body) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hash = digest.digest((method.toUpperCase() + ' ' + url + '\n' + (body == null ? "" : body)).getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder(hash.length * 2);
+			for (byte b : hash)
+				hex.append(String.format("%02x", b));
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public Optional<RecordedResponse> get(String key) {
+		RecordedResponse response = loaded.get(key);
+		if (response != null)
+			return Optional.of(response);
+
+		Path file = directory.resolve(key + ".json");
+		if (!Files.isRegularFile(file))
+			return Optional.empty();
+
+		try {
+			Map<String, Object> json = JSON.toType(Files.readString(file), Json.MAP_TYPE);
+			response = RecordedResponse.fromMap(json);
+			loaded.put(key, response);
+			return Optional.of(response);
+		} catch (IOException | RuntimeException e) {
+			log.warn("Método: get() - Arquivo do cache de rede inválido %s: %s", file, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> grava a resposta no cache, substituindo uma
+	 * gravação anterior da mesma requisição.
+	 *
+	 * @param method   é o {@link String método} HTTP.
+	 * @param url      é a {@link String URL} completa.
+	 * @param body     é o {@link String corpo} da requisição.
+	 * @param response é a {@link RecordedResponse resposta} recebida.
+	 */
+	public void put(String method, String url, String body, RecordedResponse response) {
+		String key = key(method, url, body);
+		loaded.put(key, response);
+
+		Map<String, Object> request = new LinkedHashMap<>();
+		request.put("method", method.toUpperCase());
+		request.put("url", url);
+		request.put("body", body == null ? "" : body);
+
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("request", request);
+		json.putAll(response.toMap());
+
+		try {
+			Files.createDirectories(directory);
+			Path temp = Files.createTempFile(directory, key, ".tmp");
+			Files.writeString(temp, JSON.toJson(json));
+			Files.move(temp, directory.resolve(key + ".json"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			log.warn("Método: put() - Não foi possível gravar a resposta de %s %s: %s", method, url, e.getMessage());
+		}
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+}
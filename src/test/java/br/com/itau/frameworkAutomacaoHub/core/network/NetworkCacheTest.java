@@ -0,0 +1,77 @@
+package br.com.itau.frameworkAutomacaoHub.core.network;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Testes da chave do {@link NetworkCache cache de rede}, dos padrões de URL do
+ * {@link NetworkInterceptor} e do corpo da {@link RecordedResponse resposta}.
+ */
+public class NetworkCacheTest {
+
+	@Test
+	public void keyIsSha256OfRequest() {
+		assertEquals(NetworkCache.key("GET", "https://example.com/api?q=1", null),
+				"2f164a6b8f76e6b8f44c8c9fdbaad5b6afc53eb7ed71a806cfa5aeab8eac411b");
+	}
+
+	@Test
+	public void keyIgnoresMethodCaseAndMissingBody() {
+		assertEquals(NetworkCache.key("get", "https://example.com/", null), NetworkCache.key("GET", "https://example.com/", ""));
+	}
+
+	@Test
+	public void keyDependsOnUrlAndBody() {
+		String key = NetworkCache.key("POST", "https://example.com/api", "{\"id\":1}");
+		assertNotEquals(NetworkCache.key("POST", "https://example.com/api", "{\"id\":2}"), key);
+		assertNotEquals(NetworkCache.key("POST", "https://example.com/api/", "{\"id\":1}"), key);
+		assertNotEquals(NetworkCache.key("PUT", "https://example.com/api", "{\"id\":1}"), key);
+	}
+
+	@Test
+	public void globMatchesWildcards() {
+		Pattern pattern = Pattern.compile(NetworkInterceptor.globToRegex("https://*.example.com/api/*"));
+
+		assertTrue(pattern.matcher("https://www.example.com/api/users?page=2").matches());
+		assertFalse(pattern.matcher("http://www.example.com/api/users").matches());
+		assertFalse(pattern.matcher("https://www.example.com/app/users").matches());
+	}
+
+	@Test
+	public void globEscapesRegexCharacters() {
+		Pattern pattern = Pattern.compile(NetworkInterceptor.globToRegex("https://example.com/a.js?v=(1)"));
+
+		assertTrue(pattern.matcher("https://example.com/a.js?v=(1)").matches());
+		assertFalse(pattern.matcher("https://example.com/aXjs?v=(1)").matches());
+		assertFalse(pattern.matcher("https://example.com/a.j?v=(1)").matches());
+	}
+
+	@Test
+	public void textDecodesUtf8Body() {
+		RecordedResponse response = new RecordedResponse(200, null, "ação".getBytes(StandardCharsets.UTF_8));
+
+		assertEquals(response.text(), "ação");
+		assertEquals(response.toMap().get("body"), "ação");
+	}
+
+	@Test
+	public void textRejectsBinaryBody() {
+		byte[] png = { (byte) 0x89, 'P', 'N', 'G', 0x0d, 0x0a, 0x1a, 0x0a, (byte) 0xff };
+		RecordedResponse response = new RecordedResponse(200, Map.of("Content-Type", "image/png"), png);
+
+		assertNull(response.text());
+		Map<String, Object> json = response.toMap();
+		assertFalse(json.containsKey("body"));
+		assertEquals(RecordedResponse.fromMap(json).getBody(), png);
+	}
+}
@@ -0,0 +1,439 @@
+package br.com.itau.frameworkAutomacaoHub.core.network;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.Proxy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import br.com.itau.frameworkAutomacaoHub.core.ChromeDevTools;
+import br.com.itau.frameworkAutomacaoHub.core.Properties;
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+import br.com.itau.frameworkAutomacaoHub.core.report.RunReport;
+
+/**
+ * <p>
+ * Interceptação das requisições de rede do navegador, para gravar as respostas
+ * das APIs uma única vez e reproduzi-las do {@link NetworkCache cache em disco}
+ * ou substituí-las por stubs. Configurada por:
+ * <ul>
+ * <li>{@code INTERCEPT_MODE}: {@link InterceptMode modo} de funcionamento;</li>
+ * <li>{@code INTERCEPT_URLS}: padrões de URL interceptados, com {@code *}
+ * como curinga (vazio intercepta todas);</li>
+ * <li>{@code INTERCEPT_CACHE_DIR}: diretório das respostas gravadas;</li>
+ * <li>{@code INTERCEPT_STUBS}: arquivo JSON com a lista de stubs
+ * ({@code method}, {@code url}, {@code status}, {@code headers} e
+ * {@code body}). O arquivo padrão é uma lista vazia; o formato está em
+ * {@code network/stubs.example.json}.</li>
+ * </ul>
+ * <p>
+ * No Chrome um script injetado pelo DevTools
+ * ({@code Page.addScriptToEvaluateOnNewDocument}) desvia {@code fetch} e
+ * {@code XMLHttpRequest} para o {@link InterceptServer servidor local}; os
+ * eventos do domínio {@code Fetch} do protocolo não estão disponíveis pelo
+ * canal do chromedriver usado no Selenium 3. Os demais navegadores usam o
+ * servidor local como proxy, que intercepta apenas {@code http://}: as
+ * conexões HTTPS passam por túneis sem gravação nem reprodução e são recusadas
+ * quando o modo não permite acessar a rede (ver
+ * {@link #allowsTunnel(String, int)}).
+ */
+public class NetworkInterceptor {
+
+	private static final Logger log = LoggerFactory.getLogger(NetworkInterceptor.class.getSimpleName());
+
+	private static final Json JSON = new Json();
+
+	private static NetworkInterceptor instance;
+
+	private static final LongAdder stubbed = new LongAdder();
+	private static final LongAdder replayed = new LongAdder();
+	private static final LongAdder recorded = new LongAdder();
+	private static final LongAdder missed = new LongAdder();
+	private static final LongAdder passed = new LongAdder();
+	private static final LongAdder refusedTunnels = new LongAdder();
+
+	static {
+		RunReport.register("Interceptação de rede", NetworkInterceptor::summary);
+	}
+
+	public enum Action {
+		/** A resposta é entregue pelo interceptador. */
+		RESPOND,
+		/** A requisição vai à rede. */
+		NETWORK,
+		/** A requisição vai à rede e a resposta é gravada. */
+		RECORD
+	}
+
+	private static final String SHIM =
+			"(function (config) {"
+			+ "  if (window.__networkInterceptor) return;"
+			+ "  window.__networkInterceptor = true;"
+			+ "  var endpoint = config.endpoint, patterns = config.patterns.map(function (p) { return new RegExp(p); });"
+			+ "  var nativeFetch = window.fetch && window.fetch.bind(window);"
+			+ "  var nativeOpen = XMLHttpRequest.prototype.open, nativeSend = XMLHttpRequest.prototype.send;"
+			+ "  function absolute(url) { try { return new URL(url, location.href).href; } catch (e) { return String(url); } }"
+			+ "  function intercepted(url, body) {"
+			+ "    if (url.indexOf(endpoint) === 0 || (body != null && typeof body !== 'string')) return false;"
+			+ "    if (!patterns.length) return true;"
+			+ "    for (var i = 0; i < patterns.length; i++) if (patterns[i].test(url)) return true;"
+			+ "    return false;"
+			+ "  }"
+			+ "  function post(action, payload) {"
+			+ "    return new Promise(function (resolve, reject) {"
+			+ "      var xhr = new XMLHttpRequest();"
+			+ "      nativeOpen.call(xhr, 'POST', endpoint + action, true);"
+			+ "      xhr.onload = function () { try { resolve(JSON.parse(xhr.responseText)); } catch (e) { reject(e); } };"
+			+ "      xhr.onerror = reject;"
+			+ "      nativeSend.call(xhr, JSON.stringify(payload));"
+			+ "    });"
+			+ "  }"
+			+ "  function bytes(decision) {"
+			+ "    if (decision.bodyBase64 == null) return decision.body;"
+			+ "    var raw = atob(decision.bodyBase64), out = new Uint8Array(raw.length);"
+			+ "    for (var i = 0; i < raw.length; i++) out[i] = raw.charCodeAt(i);"
+			+ "    return out;"
+			+ "  }"
+			+ "  function base64(buffer) {"
+			+ "    var data = new Uint8Array(buffer), chunks = [];"
+			+ "    for (var i = 0; i < data.length; i += 0x8000) chunks.push(String.fromCharCode.apply(null, data.subarray(i, i + 0x8000)));"
+			+ "    return btoa(chunks.join(''));"
+			+ "  }"
+			+ "  function record(method, url, body, status, headers, content) {"
+			+ "    var response = { status: status, headers: headers };"
+			+ "    if (content instanceof ArrayBuffer) response.bodyBase64 = base64(content); else response.body = content;"
+			+ "    post('record', { method: method, url: url, body: body, response: response }).catch(function () {});"
+			+ "  }"
+			+ "  if (nativeFetch) {"
+			+ "    window.fetch = function (input, init) {"
+			+ "      var request = (typeof Request !== 'undefined' && input instanceof Request) ? input : null;"
+			+ "      var method = String((init && init.method) || (request && request.method) || 'GET').toUpperCase();"
+			+ "      var url = absolute(request ? request.url : input), body = init && init.body;"
+			+ "      if (!intercepted(url, body) || (request && !init && method !== 'GET' && method !== 'HEAD')) return nativeFetch(input, init);"
+			+ "      body = body || '';"
+			+ "      return post('lookup', { method: method, url: url, body: body }).then(function (decision) {"
+			+ "        if (decision.action === 'respond') {"
+			+ "          var empty = [101, 204, 205, 304].indexOf(decision.status) >= 0;"
+			+ "          return new Response(empty ? null : bytes(decision), { status: decision.status, headers: decision.headers });"
+			+ "        }"
+			+ "        return nativeFetch(input, init).then(function (response) {"
+			+ "          if (decision.action === 'record') {"
+			+ "            var headers = {};"
+			+ "            response.headers.forEach(function (v, k) { headers[k] = v; });"
+			+ "            response.clone().arrayBuffer().then(function (data) { record(method, url, body, response.status, headers, data); });"
+			+ "          }"
+			+ "          return response;"
+			+ "        });"
+			+ "      }, function () { return nativeFetch(input, init); });"
+			+ "    };"
+			+ "  }"
+			+ "  XMLHttpRequest.prototype.open = function (method, url, async) {"
+			+ "    this.__intercept = { method: String(method).toUpperCase(), url: absolute(url), async: async !== false };"
+			+ "    return nativeOpen.apply(this, arguments);"
+			+ "  };"
+			+ "  XMLHttpRequest.prototype.send = function (body) {"
+			+ "    var xhr = this, info = xhr.__intercept;"
+			+ "    if (!info || !info.async || !intercepted(info.url, body)) return nativeSend.apply(xhr, arguments);"
+			+ "    body = body || '';"
+			+ "    post('lookup', { method: info.method, url: info.url, body: body }).then(function (decision) {"
+			+ "      if (decision.action === 'respond') { respond(xhr, decision); return; }"
+			+ "      if (decision.action === 'record') {"
+			+ "        xhr.addEventListener('load', function () {"
+			+ "          var headers = {};"
+			+ "          xhr.getAllResponseHeaders().trim().split(/[\\r\\n]+/).forEach(function (line) {"
+			+ "            var i = line.indexOf(':');"
+			+ "            if (i > 0) headers[line.substring(0, i).trim()] = line.substring(i + 1).trim();"
+			+ "          });"
+			+ "          if (xhr.responseType === 'blob') {"
+			+ "            xhr.response.arrayBuffer().then(function (data) { record(info.method, info.url, body, xhr.status, headers, data); });"
+			+ "            return;"
+			+ "          }"
+			+ "          var content = (xhr.responseType === '' || xhr.responseType === 'text') ? xhr.responseText"
+			+ "            : (xhr.responseType === 'json' ? JSON.stringify(xhr.response) : xhr.response);"
+			+ "          if (content != null) record(info.method, info.url, body, xhr.status, headers, content);"
+			+ "        });"
+			+ "      }"
+			+ "      nativeSend.call(xhr, body);"
+			+ "    }, function () { nativeSend.call(xhr, body); });"
+			+ "  };"
+			+ "  function respond(xhr, decision) {"
+			+ "    var text = decision.body != null ? decision.body : atob(decision.bodyBase64 || '');"
+			+ "    var headers = decision.headers || {}, lines = Object.keys(headers).map(function (k) { return k + ': ' + headers[k]; }).join('\\r\\n');"
+			+ "    var response = text;"
+			+ "    if (xhr.responseType === 'json') { try { response = JSON.parse(text); } catch (e) { response = null; } }"
+			+ "    else if (xhr.responseType === 'arraybuffer' || xhr.responseType === 'blob') {"
+			+ "      var data = bytes(decision); data = typeof data === 'string' ? new TextEncoder().encode(data) : data;"
+			+ "      response = xhr.responseType === 'blob' ? new Blob([data]) : data.buffer;"
+			+ "    }"
+			+ "    var values = { readyState: 4, status: decision.status, statusText: '', responseText: text, response: response, responseURL: xhr.__intercept.url };"
+			+ "    Object.keys(values).forEach(function (k) { Object.defineProperty(xhr, k, { configurable: true, value: values[k] }); });"
+			+ "    xhr.getAllResponseHeaders = function () { return lines; };"
+			+ "    xhr.getResponseHeader = function (name) {"
+			+ "      for (var k in headers) if (k.toLowerCase() === String(name).toLowerCase()) return headers[k];"
+			+ "      return null;"
+			+ "    };"
+			+ "    setTimeout(function () {"
+			+ "      ['readystatechange', 'load', 'loadend'].forEach(function (type) { xhr.dispatchEvent(new Event(type)); });"
+			+ "    }, 0);"
+			+ "  }"
+			+ "})(%s);";
+
+	private final InterceptMode mode;
+	private final NetworkCache cache;
+	private final List<Pattern> filters;
+	private final List<Stub> stubs;
+	private final InterceptServer server;
+
+	private NetworkInterceptor(InterceptMode mode, NetworkCache cache, List<String> urls, List<Stub> stubs) throws IOException {
+		this.mode = mode;
+		this.cache = cache;
+		this.filters = new ArrayList<>();
+		urls.forEach(url -> filters.add(Pattern.compile(globToRegex(url))));
+		this.stubs = stubs;
+		this.server = new InterceptServer(this);
+	}
+
+	public static boolean isEnabled() {
+		return Properties.INTERCEPT_MODE != InterceptMode.OFF;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna o interceptador, iniciando o servidor
+	 * local na primeira chamada.
+	 *
+	 * @return {@link NetworkInterceptor interceptador}
+	 */
+	public static synchronized NetworkInterceptor getInstance() {
+		if (instance == null) {
+			try {
+				instance = new NetworkInterceptor(Properties.INTERCEPT_MODE, new NetworkCache(Paths.get(Properties.INTERCEPT_CACHE_DIR)),
+						Properties.INTERCEPT_URLS, loadStubs(Properties.INTERCEPT_STUBS));
+			} catch (IOException e) {
+				throw new IllegalStateException("Não foi possível iniciar o servidor de interceptação de rede.", e);
+			}
+			Runtime.getRuntime().addShutdownHook(new Thread(instance.server::close, "network-interceptor-shutdown"));
+			log.core("Método: getInstance() - Interceptação de rede em modo %s na porta %d, cache em %s.",
+					instance.mode, instance.server.getPort(), instance.cache.getDirectory().toAbsolutePath());
+		}
+		return instance;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> instala o script de interceptação no Chrome. O
+	 * script vale para os documentos carregados a partir de então na guia atual.
+	 *
+	 * @param driver é o {@link WebDriver driver} do Chrome.
+	 * @return {@code false} caso o driver não aceite comandos do DevTools.
+	 */
+	public boolean install(WebDriver driver) {
+		if (!ChromeDevTools.isAvailable(driver))
+			return false;
+
+		Map<String, Object> config = Map.of(
+				"endpoint", "http://127.0.0.1:" + server.getPort() + InterceptServer.PREFIX,
+				"patterns", filters.stream().map(Pattern::pattern).toArray());
+		ChromeDevTools.execute(driver, "Page.addScriptToEvaluateOnNewDocument",
+				Map.of("source", SHIM.replace("%s", JSON.toJson(config))));
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> proxy HTTP para os navegadores sem DevTools.
+	 *
+	 * @return {@link Proxy proxy} apontando para o servidor local.
+	 */
+	public Proxy proxy() {
+		String address = "127.0.0.1:" + server.getPort();
+		Proxy proxy = new Proxy();
+		proxy.setHttpProxy(address);
+		proxy.setSslProxy(address);
+		proxy.setNoProxy("");
+		return proxy;
+	}
+
+	Decision decide(String method, String url, String body) {
+		if (!filters.isEmpty() && filters.stream().noneMatch(p -> p.matcher(url).matches())) {
+			passed.increment();
+			return new Decision(Action.NETWORK, null);
+		}
+
+		for (Stub stub : stubs) {
+			if (stub.matches(method, url)) {
+				stubbed.increment();
+				log.trace("Método: decide() - Stub aplicado em %s %s", method, url);
+				return new Decision(Action.RESPOND, stub.response);
+			}
+		}
+
+		if (mode == InterceptMode.STUB) {
+			passed.increment();
+			return new Decision(Action.NETWORK, null);
+		}
+
+		if (mode == InterceptMode.RECORD)
+			return new Decision(Action.RECORD, null);
+
+		Optional<RecordedResponse> cached = cache.get(NetworkCache.key(method, url, body));
+		if (cached.isPresent()) {
+			replayed.increment();
+			return new Decision(Action.RESPOND, cached.get());
+		}
+
+		if (mode == InterceptMode.AUTO)
+			return new Decision(Action.RECORD, null);
+
+		missed.increment();
+		log.warn("Método: decide() - Resposta não gravada para %s %s", method, url);
+		return new Decision(Action.RESPOND, new RecordedResponse(504, Map.of("Content-Type", "text/plain; charset=UTF-8"),
+				("Resposta não gravada no cache de rede: " + method + " " + url).getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> decide se um túnel HTTPS do proxy pode ser
+	 * aberto. O conteúdo do túnel não é interceptado, então ele é recusado no
+	 * {@link InterceptMode#REPLAY}, que não acessa a rede, e no
+	 * {@link InterceptMode#STUB} quando algum stub é destinado ao host, que
+	 * seria acessado de verdade no lugar do stub.
+	 *
+	 * @param host é o {@link String host} do {@code CONNECT}.
+	 * @param port é a {@link Integer porta} do {@code CONNECT}.
+	 * @return {@code false} caso o túnel deva ser recusado.
+	 */
+	boolean allowsTunnel(String host, int port) {
+		String origin = port == 443 ? "https://" + host : "https://" + host + ":" + port;
+		boolean stubbedHost = stubs.stream().anyMatch(stub -> stub.targets(host, port));
+
+		if (mode == InterceptMode.REPLAY || (mode == InterceptMode.STUB && stubbedHost)) {
+			refusedTunnels.increment();
+			log.warn("Método: allowsTunnel() - Conexão HTTPS com %s recusada no modo %s: o proxy intercepta apenas http://.",
+					origin, mode);
+			return false;
+		}
+		return true;
+	}
+
+	void record(String method, String url, String body, RecordedResponse response) {
+		recorded.increment();
+		cache.put(method, url, body, response);
+	}
+
+	public static String summary() {
+		return String.format("Stubs: %d, respostas reproduzidas: %d, gravadas: %d, não gravadas: %d, fora do filtro: %d, túneis HTTPS recusados: %d",
+				stubbed.sum(), replayed.sum(), recorded.sum(), missed.sum(), passed.sum(), refusedTunnels.sum());
+	}
+
+	private static List<Stub> loadStubs(String file) {
+		if (file == null || file.isBlank())
+			return Collections.emptyList();
+
+		Path path = Paths.get(file);
+		if (!Files.isRegularFile(path))
+			return Collections.emptyList();
+
+		List<Stub> stubs = new ArrayList<>();
+		try {
+			List<Map<String, Object>> json = JSON.toType(Files.readString(path), Json.LIST_OF_MAPS_TYPE);
+			for (Map<String, Object> entry : json)
+				stubs.add(new Stub(entry));
+		} catch (IOException | RuntimeException e) {
+			log.error("Método: loadStubs() - Arquivo de stubs inválido %s: %s", file, e.getMessage());
+		}
+		log.core("Método: loadStubs() - %d stub(s) carregado(s) de %s.", stubs.size(), file);
+		return stubs;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> converte um padrão com {@code *} em uma expressão
+	 * regular válida em Java e em JavaScript.
+	 */
+	static String globToRegex(String glob) {
+		StringBuilder regex = new StringBuilder("^");
+		for (char c : glob.toCharArray()) {
+			if (c == '*')
+				regex.append(".*");
+			else if ("\\^$.|?+()[]{}/".indexOf(c) >= 0)
+				regex.append('\\').append(c);
+			else
+				regex.append(c);
+		}
+		return regex.append('$').toString();
+	}
+
+	static class Decision {
+
+		private final Action action;
+		private final RecordedResponse response;
+
+		Decision(Action action, RecordedResponse response) {
+			this.action = action;
+			this.response = response;
+		}
+
+		Action getAction() {
+			return action;
+		}
+
+		RecordedResponse getResponse() {
+			return response;
+		}
+	}
+
+	private static class Stub {
+
+		private final String method;
+		private final String glob;
+		private final Pattern url;
+		private final RecordedResponse response;
+
+		Stub(Map<String, Object> json) {
+			this.method = json.get("method") == null ? null : String.valueOf(json.get("method")).toUpperCase();
+			this.glob = String.valueOf(json.get("url"));
+			this.url = Pattern.compile(globToRegex(glob));
+			this.response = RecordedResponse.fromMap(json);
+		}
+
+		boolean matches(String method, String url) {
+			return (this.method == null || this.method.equalsIgnoreCase(method)) && this.url.matcher(url).matches();
+		}
+
+		/**
+		 * Verifica se o padrão do stub é destinado ao host HTTPS informado.
+		 * Padrões sem esquema ou com host curinga ({@code *}/api/...) valem para
+		 * qualquer host e não identificam um destino específico.
+		 */
+		boolean targets(String host, int port) {
+			String rest = glob;
+			int scheme = rest.indexOf("://");
+			if (scheme >= 0) {
+				if (!"https".equalsIgnoreCase(rest.substring(0, scheme)))
+					return false;
+				rest = rest.substring(scheme + 3);
+			}
+
+			int slash = rest.indexOf('/');
+			String hostPattern = slash >= 0 ? rest.substring(0, slash) : rest;
+			if (scheme < 0 || hostPattern.replace("*", "").isEmpty())
+				return false;
+
+			Pattern pattern = Pattern.compile(globToRegex(hostPattern), Pattern.CASE_INSENSITIVE);
+			return pattern.matcher(host + ":" + port).matches() || (port == 443 && pattern.matcher(host).matches());
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package br.com.itau.frameworkAutomacaoHub.core.network;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Resposta HTTP gravada no cache ou definida por um stub. No arquivo, o corpo
+ * é salvo como texto quando é UTF-8 válido e em Base64 nos demais casos.
+ */
+public class RecordedResponse {
+
+	private final int status;
+	private final Map<String, String> headers;
+	private final byte[] body;
+
+	public RecordedResponse(int status, Map<String, String> headers, byte[] body) {
+		this.status = status;
+		this.headers = headers == null ? Collections.emptyMap() : Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+		this.body = body == null ? new byte[0] : body;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> monta a resposta a partir do JSON gravado no
+	 * cache ou de um stub.
+	 *
+	 * @param json é o {@link Map JSON} da resposta.
+	 * @return {@link RecordedResponse resposta}
+	 */
+	public static RecordedResponse fromMap(Map<String, Object> json) {
+		Object status = json.get("status");
+		Map<String, String> headers = new LinkedHashMap<>();
+		if (json.get("headers") instanceof Map)
+			((Map<?, ?>) json.get("headers")).forEach((k, v) -> headers.put(String.valueOf(k), String.valueOf(v)));
+
+		byte[] body;
+		if (json.get("bodyBase64") != null)
+			body = Base64.getDecoder().decode(String.valueOf(json.get("bodyBase64")));
+		else if (json.get("body") != null)
+			body = String.valueOf(json.get("body")).getBytes(StandardCharsets.UTF_8);
+		else
+			body = new byte[0];
+
+		return new RecordedResponse(status instanceof Number ? ((Number) status).intValue() : 200, headers, body);
+	}
+
+	public Map<String, Object> toMap() {
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("status", status);
+		json.put("headers", headers);
+
+		String text = text();
+		if (text != null)
+			json.put("body", text);
+		else
+			json.put("bodyBase64", Base64.getEncoder().encodeToString(body));
+		return json;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna o corpo como texto.
+	 *
+	 * @return {@link String corpo}, ou {@code null} caso não seja UTF-8 válido.
+	 */
+	public String text() {
+		try {
+			return StandardCharsets.UTF_8.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPORT)
+					.onUnmappableCharacter(CodingErrorAction.REPORT)
+					.decode(ByteBuffer.wrap(body))
+					.toString();
+		} catch (CharacterCodingException e) {
+			return null;
+		}
+	}
+
+	public int getStatus() {
+		return status;
+	}
+
+	public Map<String, String> getHeaders() {
+		return headers;
+	}
+
+	public byte[] getBody() {
+		return body;
+	}
+}
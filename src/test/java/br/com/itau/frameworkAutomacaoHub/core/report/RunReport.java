@@ -0,0 +1,85 @@
+package br.com.itau.frameworkAutomacaoHub.core.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+
+/**
+ * <p>
+ * Relatório de métricas da execução. Cada componente registra uma seção que é
+ * avaliada apenas no fim da suíte, quando o relatório é logado e gravado em
+ * {@code target/evidencias/run-report.txt}.
+ */
+public class RunReport {
+
+	private static final Logger log = LoggerFactory.getLogger(RunReport.class.getSimpleName());
+
+	private static final Path REPORT = Paths.get("target", "evidencias", "run-report.txt");
+
+	private static final Map<String, Supplier<String>> sections = new ConcurrentSkipListMap<>();
+
+	private static final AtomicBoolean published = new AtomicBoolean();
+
+	private RunReport() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> registra (ou substitui) uma seção do relatório.
+	 *
+	 * @param name    é o {@link String nome} da seção.
+	 * @param section é o {@link Supplier fornecedor} do conteúdo da seção.
+	 */
+	public static void register(String name, Supplier<String> section) {
+		sections.put(name, section);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> loga e grava o relatório. Chamadas seguintes à
+	 * primeira são ignoradas.
+	 */
+	public static void publish() {
+		if (!published.compareAndSet(false, true))
+			return;
+
+		StringBuilder report = new StringBuilder();
+		sections.forEach((name, section) -> {
+			String content;
+			try {
+				content = section.get();
+			} catch (Exception e) {
+				content = "Falha ao gerar a seção: " + e.getMessage();
+			}
+			report.append("==================== ").append(name).append(" ====================")
+					.append(System.lineSeparator())
+					.append(content)
+					.append(System.lineSeparator())
+					.append(System.lineSeparator());
+		});
+
+		if (report.length() == 0)
+			return;
+
+		log.info(System.lineSeparator() + report);
+
+		try {
+			Files.createDirectories(REPORT.getParent());
+			Files.write(REPORT, report.toString().getBytes(StandardCharsets.UTF_8));
+			log.core("Relatório da execução salvo em " + REPORT.toString().replace(File.separator, "/"));
+		} catch (IOException e) {
+			log.error("Erro ao gravar o relatório da execução: " + e.getMessage());
+		}
+
+		Logger.flush(5000);
+	}
+}
@@ -0,0 +1,63 @@
+package br.com.itau.frameworkAutomacaoHub.core.report;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Mede o tempo em que cada thread ficou ocupada executando cenários, para
+ * avaliar o aproveitamento da execução paralela.
+ */
+public class ThreadUtilization {
+
+	private static final Map<String, Usage> usages = new ConcurrentHashMap<>();
+
+	private static final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+
+	private static final AtomicLong firstStart = new AtomicLong();
+
+	static {
+		RunReport.register("Utilização das threads", ThreadUtilization::summary);
+	}
+
+	private ThreadUtilization() { }
+
+	public static void start() {
+		long now = System.nanoTime();
+		firstStart.compareAndSet(0, now);
+		startedAt.set(now);
+	}
+
+	public static void stop() {
+		Long start = startedAt.get();
+		if (start == null)
+			return;
+
+		startedAt.remove();
+		Usage usage = usages.computeIfAbsent(Thread.currentThread().getName(), k -> new Usage());
+		usage.busyNanos.add(System.nanoTime() - start);
+		usage.scenarios.increment();
+	}
+
+	public static String summary() {
+		long wall = firstStart.get() == 0 ? 0 : System.nanoTime() - firstStart.get();
+		StringBuilder summary = new StringBuilder(String.format("Tempo total: %d ms, threads: %d",
+				TimeUnit.NANOSECONDS.toMillis(wall), usages.size()));
+
+		new TreeMap<>(usages).forEach((thread, usage) -> {
+			long busy = usage.busyNanos.sum();
+			summary.append(System.lineSeparator()).append(String.format("%s - cenários: %d, ocupada: %d ms (%.1f%%)",
+					thread, usage.scenarios.sum(), TimeUnit.NANOSECONDS.toMillis(busy), wall == 0 ? 0 : busy * 100.0 / wall));
+		});
+		return summary.toString();
+	}
+
+	private static class Usage {
+		private final LongAdder busyNanos = new LongAdder();
+		private final LongAdder scenarios = new LongAdder();
+	}
+}
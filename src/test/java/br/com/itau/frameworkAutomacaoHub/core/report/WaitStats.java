@@ -0,0 +1,129 @@
+package br.com.itau.frameworkAutomacaoHub.core.report;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Registra a duração, a quantidade de tentativas e o resultado de cada espera
+ * por elemento, agrupados por seletor, para identificar as esperas mais lentas
+ * da execução.
+ */
+public class WaitStats {
+
+	public enum Outcome {
+		FOUND,
+		TIMEOUT,
+		ERROR
+	}
+
+	private static final long[] BUCKETS = { 50, 100, 250, 500, 1000, 2000, 5000, 10000 };
+
+	private static final int TOP = 15;
+
+	private static final AtomicLongArray histogram = new AtomicLongArray(BUCKETS.length + 1);
+
+	private static final Map<String, Stats> locators = new ConcurrentHashMap<>();
+
+	static {
+		RunReport.register("Esperas por elemento", WaitStats::summary);
+	}
+
+	private WaitStats() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> registra uma espera concluída.
+	 *
+	 * @param locator é o {@link String seletor} aguardado.
+	 * @param nanos   é a duração da espera em nanossegundos.
+	 * @param polls   é a quantidade de consultas feitas ao navegador.
+	 * @param outcome é o {@link Outcome resultado} da espera.
+	 */
+	public static void record(String locator, long nanos, int polls, Outcome outcome) {
+		long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+		histogram.incrementAndGet(bucket(millis));
+
+		Stats stats = locators.computeIfAbsent(locator, k -> new Stats());
+		stats.count.increment();
+		stats.totalNanos.add(nanos);
+		stats.maxNanos.accumulate(nanos);
+		stats.polls.add(polls);
+		if (outcome == Outcome.TIMEOUT)
+			stats.timeouts.increment();
+		else if (outcome == Outcome.ERROR)
+			stats.errors.increment();
+	}
+
+	public static String summary() {
+		long total = 0;
+		for (int i = 0; i < histogram.length(); i++)
+			total += histogram.get(i);
+
+		if (total == 0)
+			return "Nenhuma espera registrada.";
+
+		StringBuilder summary = new StringBuilder(String.format("Esperas: %d, mediana: %s, p95: %s",
+				total, percentile(total, 0.5), percentile(total, 0.95)));
+
+		summary.append(System.lineSeparator()).append("Distribuição:");
+		for (int i = 0; i < histogram.length(); i++) {
+			long count = histogram.get(i);
+			if (count > 0)
+				summary.append(System.lineSeparator()).append(String.format("  %-10s %d", label(i), count));
+		}
+
+		summary.append(System.lineSeparator()).append("Seletores mais lentos (tempo total):");
+		locators.entrySet().stream()
+				.sorted(Comparator.comparingLong((Map.Entry<String, Stats> e) -> e.getValue().totalNanos.sum()).reversed())
+				.limit(TOP)
+				.forEach(e -> {
+					Stats stats = e.getValue();
+					long count = stats.count.sum();
+					summary.append(System.lineSeparator()).append(String.format(
+							"  %s - esperas: %d, média: %d ms, máx: %d ms, consultas: %d, timeouts: %d, erros: %d",
+							e.getKey(), count,
+							TimeUnit.NANOSECONDS.toMillis(stats.totalNanos.sum() / count),
+							TimeUnit.NANOSECONDS.toMillis(stats.maxNanos.get()),
+							stats.polls.sum(), stats.timeouts.sum(), stats.errors.sum()));
+				});
+
+		return summary.toString();
+	}
+
+	private static int bucket(long millis) {
+		for (int i = 0; i < BUCKETS.length; i++)
+			if (millis < BUCKETS[i])
+				return i;
+		return BUCKETS.length;
+	}
+
+	private static String label(int bucket) {
+		return bucket < BUCKETS.length ? "< " + BUCKETS[bucket] + " ms" : ">= " + BUCKETS[BUCKETS.length - 1] + " ms";
+	}
+
+	private static String percentile(long total, double percentile) {
+		long target = (long) Math.ceil(total * percentile);
+		long seen = 0;
+		for (int i = 0; i < histogram.length(); i++) {
+			seen += histogram.get(i);
+			if (seen >= target)
+				return label(i);
+		}
+		return label(BUCKETS.length);
+	}
+
+	private static class Stats {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+		private final LongAdder polls = new LongAdder();
+		private final LongAdder timeouts = new LongAdder();
+		private final LongAdder errors = new LongAdder();
+	}
+}
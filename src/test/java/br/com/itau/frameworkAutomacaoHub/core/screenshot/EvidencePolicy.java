@@ -0,0 +1,43 @@
+package br.com.itau.frameworkAutomacaoHub.core.screenshot;
+
+/**
+ * <p>
+ * Política de evidências dos cenários, definida por {@code EVIDENCE} no
+ * {@code options.properties}. Define qual {@link ScreenshotStrategy estratégia}
+ * é utilizada de acordo com o resultado do cenário.
+ */
+public enum EvidencePolicy {
+
+	/**
+	 * Utiliza a estratégia configurada em todos os cenários.
+	 */
+	ALWAYS {
+		@Override
+		public ScreenshotStrategy strategyFor(boolean failed, ScreenshotStrategy configured) {
+			return configured;
+		}
+	},
+
+	/**
+	 * Captura apenas os cenários com falha.
+	 */
+	ON_FAILURE {
+		@Override
+		public ScreenshotStrategy strategyFor(boolean failed, ScreenshotStrategy configured) {
+			return failed ? configured : ScreenshotStrategy.NONE;
+		}
+	},
+
+	/**
+	 * Utiliza a estratégia configurada nas falhas e, nos sucessos, no máximo a
+	 * captura da área visível.
+	 */
+	FULL_ON_FAILURE {
+		@Override
+		public ScreenshotStrategy strategyFor(boolean failed, ScreenshotStrategy configured) {
+			return failed ? configured : configured.cheapest(ScreenshotStrategy.VIEWPORT);
+		}
+	};
+
+	public abstract ScreenshotStrategy strategyFor(boolean failed, ScreenshotStrategy configured);
+}
@@ -0,0 +1,153 @@
+package br.com.itau.frameworkAutomacaoHub.core.screenshot;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.imageio.ImageIO;
+
+import br.com.itau.frameworkAutomacaoHub.core.Properties;
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+import br.com.itau.frameworkAutomacaoHub.core.report.RunReport;
+
+/**
+ * <p>
+ * Pipeline assíncrono de evidências. A captura acontece na thread do cenário,
+ * enquanto a codificação em PNG e a gravação em disco são feitas por um pool
+ * limitado em segundo plano.
+ * <p>
+ * Quando a fila ({@code EVIDENCE_QUEUE}) está cheia a própria thread do
+ * cenário executa a tarefa, limitando a memória ocupada pelas imagens
+ * pendentes.
+ */
+public class ScreenshotPipeline {
+
+	private static final Logger log = LoggerFactory.getLogger(ScreenshotPipeline.class.getSimpleName());
+
+	private static final ScreenshotPipeline instance = new ScreenshotPipeline(Properties.EVIDENCE_THREADS, Properties.EVIDENCE_QUEUE);
+
+	private final ThreadPoolExecutor executor;
+	private final Phaser pending = new Phaser(1);
+
+	private final LongAdder captures = new LongAdder();
+	private final LongAdder captureNanos = new LongAdder();
+	private final LongAdder encodeNanos = new LongAdder();
+	private final LongAdder writeNanos = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+
+	private ScreenshotPipeline(int threads, int queue) {
+		AtomicInteger count = new AtomicInteger();
+		int size = Math.max(threads, 1);
+		this.executor = new ThreadPoolExecutor(size, size, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(Math.max(queue, 1)), r -> {
+			Thread t = new Thread(r, "screenshot-writer-" + count.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}, new ThreadPoolExecutor.CallerRunsPolicy());
+		this.executor.allowCoreThreadTimeOut(true);
+
+		Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "screenshot-flush"));
+		RunReport.register("Evidências", this::summary);
+	}
+
+	public static ScreenshotPipeline getInstance() {
+		return instance;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> registra o tempo gasto na captura de uma
+	 * evidência.
+	 *
+	 * @param nanos é a duração da captura em nanossegundos.
+	 */
+	public void recordCapture(long nanos) {
+		captures.increment();
+		captureNanos.add(nanos);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> agenda a codificação em PNG e a gravação da imagem.
+	 *
+	 * @param file  é o {@link File arquivo} de destino.
+	 * @param image é a {@link BufferedImage imagem} capturada.
+	 */
+	public void submit(File file, BufferedImage image) {
+		execute(() -> {
+			long start = System.nanoTime();
+			ByteArrayOutputStream png = new ByteArrayOutputStream();
+			ImageIO.write(image, "PNG", png);
+			encodeNanos.add(System.nanoTime() - start);
+			write(file, png.toByteArray());
+		});
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> agenda a gravação de uma evidência já codificada
+	 * em PNG.
+	 *
+	 * @param file é o {@link File arquivo} de destino.
+	 * @param png  são os bytes da imagem.
+	 */
+	public void submit(File file, byte[] png) {
+		execute(() -> write(file, png));
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> aguarda a gravação de todas as evidências
+	 * pendentes.
+	 */
+	public synchronized void flush() {
+		pending.arriveAndAwaitAdvance();
+	}
+
+	public String summary() {
+		long count = captures.sum();
+		return String.format("Capturas: %d, falhas: %d, captura: %d ms, codificação: %d ms, gravação: %d ms, média de captura: %d ms",
+				count, failures.sum(),
+				TimeUnit.NANOSECONDS.toMillis(captureNanos.sum()),
+				TimeUnit.NANOSECONDS.toMillis(encodeNanos.sum()),
+				TimeUnit.NANOSECONDS.toMillis(writeNanos.sum()),
+				count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(captureNanos.sum() / count));
+	}
+
+	private void write(File file, byte[] png) throws IOException {
+		long start = System.nanoTime();
+		File parent = file.getParentFile();
+		if (parent != null)
+			parent.mkdirs();
+		Files.write(file.toPath(), png);
+		writeNanos.add(System.nanoTime() - start);
+		log.core("Evidência salva em %s", file.getPath());
+	}
+
+	private void execute(IOTask task) {
+		pending.register();
+		executor.execute(() -> {
+			try {
+				task.run();
+			} catch (Exception e) {
+				failures.increment();
+				log.error("Falha ao realizar e armazenar a captura de tela. (" + e.getMessage() + ")");
+			} finally {
+				pending.arriveAndDeregister();
+			}
+		});
+	}
+
+	@FunctionalInterface
+	private interface IOTask {
+		void run() throws IOException;
+	}
+}
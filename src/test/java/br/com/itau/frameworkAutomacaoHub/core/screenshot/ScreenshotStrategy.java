@@ -0,0 +1,138 @@
+package br.com.itau.frameworkAutomacaoHub.core.screenshot;
+
+import java.io.File;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import br.com.itau.frameworkAutomacaoHub.core.ChromeDevTools;
+import br.com.itau.frameworkAutomacaoHub.core.Properties;
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+import ru.yandex.qatools.ashot.AShot;
+import ru.yandex.qatools.ashot.Screenshot;
+import ru.yandex.qatools.ashot.shooting.ShootingStrategies;
+
+/**
+ * <p>
+ * Estratégias de captura de evidências, declaradas da mais barata para a mais
+ * cara. A estratégia padrão é definida por {@code SCREENSHOT} no
+ * {@code options.properties}.
+ *
+ * @see EvidencePolicy
+ * @see ScreenshotPipeline
+ */
+public enum ScreenshotStrategy {
+
+	NONE {
+		@Override
+		protected void shoot(WebDriver driver, File file) {
+		}
+	},
+
+	VIEWPORT {
+		@Override
+		protected void shoot(WebDriver driver, File file) {
+			byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+			record(file, png);
+		}
+	},
+
+	ELEMENT {
+		@Override
+		protected void shoot(WebDriver driver, File file) {
+			List<WebElement> elements = driver.findElements(By.cssSelector(Properties.SCREENSHOT_ELEMENT));
+			if (elements.isEmpty()) {
+				log.warn("Elemento de evidência %s não encontrado, capturando a área visível.", Properties.SCREENSHOT_ELEMENT);
+				VIEWPORT.shoot(driver, file);
+				return;
+			}
+			record(file, elements.get(0).getScreenshotAs(OutputType.BYTES));
+		}
+	},
+
+	FULL_PAGE {
+		@Override
+		protected void shoot(WebDriver driver, File file) {
+			if (ChromeDevTools.isAvailable(driver)) {
+				try {
+					record(file, captureWithDevTools(driver));
+					return;
+				} catch (Exception e) {
+					log.warn("Captura pelo DevTools indisponível, utilizando o AShot: " + e.getMessage());
+				}
+			}
+
+			Screenshot screenshot = new AShot()
+					.shootingStrategy(ShootingStrategies.viewportPasting(Properties.SCREENSHOT_SCROLL_PAUSE))
+					.takeScreenshot(driver);
+			ScreenshotPipeline.getInstance().submit(file, screenshot.getImage());
+		}
+
+		@SuppressWarnings("unchecked")
+		private byte[] captureWithDevTools(WebDriver driver) {
+			Map<String, Object> metrics = ChromeDevTools.execute(driver, "Page.getLayoutMetrics", null);
+			Map<String, Object> size = (Map<String, Object>) metrics.getOrDefault("cssContentSize", metrics.get("contentSize"));
+
+			Map<String, Object> clip = new HashMap<>();
+			clip.put("x", 0);
+			clip.put("y", 0);
+			clip.put("width", ((Number) size.get("width")).doubleValue());
+			clip.put("height", ((Number) size.get("height")).doubleValue());
+			clip.put("scale", 1);
+
+			Map<String, Object> params = new HashMap<>();
+			params.put("format", "png");
+			params.put("captureBeyondViewport", true);
+			params.put("clip", clip);
+
+			Map<String, Object> result = ChromeDevTools.execute(driver, "Page.captureScreenshot", params);
+			return Base64.getDecoder().decode((String) result.get("data"));
+		}
+	};
+
+	protected static final Logger log = LoggerFactory.getLogger(ScreenshotStrategy.class.getSimpleName());
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> captura a evidência e agenda a sua gravação no
+	 * {@link ScreenshotPipeline}.
+	 *
+	 * @param driver é o {@link WebDriver driver}.
+	 * @param file   é o {@link File arquivo} de destino.
+	 */
+	public void capture(WebDriver driver, File file) {
+		if (this == NONE)
+			return;
+
+		log.core("Método: capture() - Capturando a evidência %s com a estratégia %s.", file.getName(), this);
+		long start = System.nanoTime();
+		driver.switchTo().defaultContent();
+		shoot(driver, file);
+		ScreenshotPipeline.getInstance().recordCapture(System.nanoTime() - start);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna a estratégia mais barata entre as duas.
+	 *
+	 * @param other é a outra {@link ScreenshotStrategy estratégia}.
+	 * @return {@link ScreenshotStrategy estratégia}
+	 */
+	public ScreenshotStrategy cheapest(ScreenshotStrategy other) {
+		return ordinal() <= other.ordinal() ? this : other;
+	}
+
+	protected abstract void shoot(WebDriver driver, File file);
+
+	protected void record(File file, byte[] png) {
+		ScreenshotPipeline.getInstance().submit(file, png);
+	}
+}
@@ -0,0 +1,284 @@
+package br.com.itau.frameworkAutomacaoHub.core.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import br.com.itau.frameworkAutomacaoHub.core.log.LogLevel;
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+
+/**
+ * <p>
+ * Configuração tipada do framework. O {@code options.properties} é lido uma
+ * única vez e combinado com as variáveis de ambiente e as propriedades de
+ * sistema em um snapshot imutável.
+ * <p>
+ * <strong>Precedência</strong> (da maior para a menor):
+ * <ol>
+ * <li>propriedades de sistema ({@code -DCHAVE=valor});</li>
+ * <li>variáveis de ambiente;</li>
+ * <li>{@code options.properties} (ou o arquivo indicado em {@code CONFIG_FILE}).</li>
+ * </ol>
+ * <p>
+ * Com {@code CONFIG_WATCH=true} o arquivo é monitorado e um novo snapshot é
+ * publicado a cada alteração. Na execução em andamento a recarga só tem
+ * efeito sobre o {@code LOG_LEVEL} e sobre os {@link #onChange(Consumer)
+ * ouvintes} registrados: as flags estáticas de
+ * {@link br.com.itau.frameworkAutomacaoHub.core.Properties Properties} são
+ * lidas apenas na inicialização e não mudam.
+ */
+public final class Configuration {
+
+	private static final Logger log = LoggerFactory.getLogger(Configuration.class.getSimpleName());
+
+	private static final String FILE_NAME = "options.properties";
+
+	private static volatile Configuration snapshot;
+
+	private static final List<Consumer<Configuration>> listeners = new CopyOnWriteArrayList<>();
+
+	private static Thread watcher;
+
+	private final Map<String, String> values;
+	private final Properties file;
+	private final Path source;
+
+	private Configuration(Properties file, Path source) {
+		Map<String, String> values = new HashMap<>();
+		file.stringPropertyNames().forEach(key -> values.put(key, file.getProperty(key)));
+		values.putAll(System.getenv());
+		System.getProperties().stringPropertyNames().forEach(key -> values.put(key, System.getProperty(key)));
+
+		this.values = Collections.unmodifiableMap(values);
+		this.file = file;
+		this.source = source;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna o snapshot atual da configuração,
+	 * carregando-o na primeira chamada.
+	 *
+	 * @return {@link Configuration configuração}
+	 */
+	public static Configuration get() {
+		Configuration current = snapshot;
+		if (current == null) {
+			synchronized (Configuration.class) {
+				current = snapshot;
+				if (current == null) {
+					current = load();
+					snapshot = current;
+					applyLogLevel(current);
+					if (current.getBoolean("CONFIG_WATCH", false))
+						watch(current.source);
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> relê o arquivo e publica um novo snapshot. Além
+	 * do {@code LOG_LEVEL}, reaplicado aqui, apenas quem consulta o snapshot
+	 * ou os ouvintes percebem os novos valores.
+	 *
+	 * @return {@link Configuration configuração} atualizada.
+	 */
+	public static synchronized Configuration reload() {
+		snapshot = load();
+		applyLogLevel(snapshot);
+		listeners.forEach(listener -> listener.accept(snapshot));
+		return snapshot;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> registra um ouvinte chamado a cada novo snapshot
+	 * publicado pelo monitoramento do arquivo.
+	 *
+	 * @param listener é o {@link Consumer ouvinte}.
+	 */
+	public static void onChange(Consumer<Configuration> listener) {
+		listeners.add(listener);
+	}
+
+	public String getString(String key) {
+		return values.get(key);
+	}
+
+	public String getString(String key, String defaultValue) {
+		String value = values.get(key);
+		return (value == null || value.isBlank()) ? defaultValue : value.trim();
+	}
+
+	public boolean getBoolean(String key) {
+		return Boolean.parseBoolean(getString(key, "false"));
+	}
+
+	public boolean getBoolean(String key, boolean defaultValue) {
+		String value = getString(key, null);
+		return value == null ? defaultValue : Boolean.parseBoolean(value);
+	}
+
+	public int getInt(String key, int defaultValue) {
+		String value = getString(key, null);
+		if (value == null)
+			return defaultValue;
+
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			log.error("Valor inválido para a propriedade %s: %s", key, value);
+			return defaultValue;
+		}
+	}
+
+	public long getLong(String key, long defaultValue) {
+		String value = getString(key, null);
+		if (value == null)
+			return defaultValue;
+
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			log.error("Valor inválido para a propriedade %s: %s", key, value);
+			return defaultValue;
+		}
+	}
+
+	public <E extends Enum<E>> E getEnum(String key, Class<E> type, E defaultValue) {
+		String value = getString(key, null);
+		if (value == null)
+			return defaultValue;
+
+		try {
+			return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			log.error("Valor inválido para a propriedade %s: %s", key, value);
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna uma lista a partir de um valor separado por
+	 * vírgulas.
+	 *
+	 * @param key é a {@link String chave}.
+	 * @return {@link List lista} de valores, vazia caso a chave não exista.
+	 */
+	public List<String> getList(String key) {
+		String value = getString(key, null);
+		if (value == null)
+			return Collections.emptyList();
+
+		return Arrays.stream(value.split(","))
+				.map(String::trim)
+				.filter(v -> !v.isEmpty())
+				.collect(Collectors.toUnmodifiableList());
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna uma cópia das propriedades lidas do
+	 * arquivo, sem as variáveis de ambiente e de sistema.
+	 *
+	 * @return {@link Properties propriedades}
+	 */
+	public Properties getFileProperties() {
+		Properties copy = new Properties();
+		copy.putAll(file);
+		return copy;
+	}
+
+	private static Configuration load() {
+		Properties props = new Properties();
+		Path source = null;
+
+		String custom = System.getProperty("CONFIG_FILE", System.getenv("CONFIG_FILE"));
+		try {
+			if (custom != null && !custom.isBlank()) {
+				source = Paths.get(custom);
+				try (InputStream in = Files.newInputStream(source)) {
+					log.core("Fazendo leitura da properties " + source);
+					props.load(in);
+				}
+			} else {
+				URL resource = Configuration.class.getClassLoader().getResource(FILE_NAME);
+				if (resource != null) {
+					if ("file".equals(resource.getProtocol()))
+						source = Paths.get(resource.toURI());
+					try (InputStream in = resource.openStream()) {
+						log.core("Fazendo leitura da properties");
+						props.load(in);
+					}
+				}
+			}
+		} catch (IOException | URISyntaxException e) {
+			log.error("Erro ao tentar ler as propriedades");
+			e.printStackTrace();
+		}
+
+		return new Configuration(props, source);
+	}
+
+	private static void applyLogLevel(Configuration config) {
+		Logger.setLevel(config.getEnum("LOG_LEVEL", LogLevel.class, Logger.getLevel()));
+	}
+
+	private static void watch(Path source) {
+		if (watcher != null)
+			return;
+
+		if (source == null) {
+			log.warn("Monitoramento da configuração indisponível para este arquivo.");
+			return;
+		}
+
+		watcher = new Thread(() -> {
+			try (WatchService service = FileSystems.getDefault().newWatchService()) {
+				Path dir = source.toAbsolutePath().getParent();
+				dir.register(service, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+				while (!Thread.currentThread().isInterrupted()) {
+					WatchKey key = service.take();
+					for (WatchEvent<?> event : key.pollEvents()) {
+						if (source.getFileName().equals(event.context())) {
+							log.info("Configuração alterada, recarregando " + source.getFileName());
+							reload();
+						}
+					}
+					key.reset();
+				}
+			} catch (IOException | ClosedWatchServiceException e) {
+				log.warn("Monitoramento da configuração encerrado: " + e.getMessage());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, "configuration-watcher");
+		watcher.setDaemon(true);
+		watcher.start();
+	}
+}
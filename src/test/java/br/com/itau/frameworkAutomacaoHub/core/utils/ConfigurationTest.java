@@ -0,0 +1,109 @@
+package br.com.itau.frameworkAutomacaoHub.core.utils;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import br.com.itau.frameworkAutomacaoHub.core.screenshot.ScreenshotStrategy;
+
+/**
+ * <p>
+ * Testes da precedência e da conversão de valores da {@link Configuration
+ * configuração}. O arquivo é indicado em {@code CONFIG_FILE} e o snapshot
+ * original é restaurado ao final.
+ */
+public class ConfigurationTest {
+
+	private static final String SYSTEM_KEY = "CONFIGURATION_TEST_SYSTEM";
+
+	private Path file;
+	private Configuration config;
+
+	@BeforeClass
+	public void load() throws IOException {
+		file = Files.createTempFile("configuration-test", ".properties");
+		Files.write(file, String.join("\n",
+				"FILE_ONLY= valor do arquivo ",
+				SYSTEM_KEY + "=arquivo",
+				"PATH=arquivo",
+				"BLANK=",
+				"NUMBER=42",
+				"BAD_NUMBER=quarenta",
+				"STRATEGY=viewport",
+				"BAD_STRATEGY=TELA_TODA",
+				"LIST= a, b ,,c ").getBytes(StandardCharsets.UTF_8));
+
+		System.setProperty("CONFIG_FILE", file.toString());
+		System.setProperty(SYSTEM_KEY, "sistema");
+		config = Configuration.reload();
+	}
+
+	@AfterClass(alwaysRun = true)
+	public void restore() throws IOException {
+		System.clearProperty("CONFIG_FILE");
+		System.clearProperty(SYSTEM_KEY);
+		Configuration.reload();
+		Files.deleteIfExists(file);
+	}
+
+	@Test
+	public void readsFromFile() {
+		assertEquals(config.getString("FILE_ONLY", null), "valor do arquivo");
+		assertEquals(config.getFileProperties().getProperty("FILE_ONLY"), "valor do arquivo ");
+	}
+
+	@Test
+	public void systemPropertyOverridesFile() {
+		assertEquals(config.getString(SYSTEM_KEY), "sistema");
+		assertEquals(config.getFileProperties().getProperty(SYSTEM_KEY), "arquivo");
+	}
+
+	@Test
+	public void environmentOverridesFile() {
+		assertNotNull(System.getenv("PATH"));
+		assertEquals(config.getString("PATH"), System.getenv("PATH"));
+	}
+
+	@Test
+	public void blankFallsBackToDefault() {
+		assertEquals(config.getString("BLANK", "padrão"), "padrão");
+		assertEquals(config.getString("MISSING", "padrão"), "padrão");
+		assertEquals(config.getInt("BLANK", 7), 7);
+	}
+
+	@Test
+	public void parsesNumbersWithFallback() {
+		assertEquals(config.getInt("NUMBER", 0), 42);
+		assertEquals(config.getLong("NUMBER", 0), 42L);
+		assertEquals(config.getInt("BAD_NUMBER", 7), 7);
+	}
+
+	@Test
+	public void parsesEnumIgnoringCase() {
+		assertEquals(config.getEnum("STRATEGY", ScreenshotStrategy.class, ScreenshotStrategy.FULL_PAGE),
+				ScreenshotStrategy.VIEWPORT);
+	}
+
+	@Test
+	public void invalidEnumFallsBackToDefault() {
+		assertEquals(config.getEnum("BAD_STRATEGY", ScreenshotStrategy.class, ScreenshotStrategy.FULL_PAGE),
+				ScreenshotStrategy.FULL_PAGE);
+		assertEquals(config.getEnum("MISSING", ScreenshotStrategy.class, ScreenshotStrategy.ELEMENT),
+				ScreenshotStrategy.ELEMENT);
+	}
+
+	@Test
+	public void splitsLists() {
+		assertEquals(config.getList("LIST"), List.of("a", "b", "c"));
+		assertEquals(config.getList("MISSING"), List.of());
+	}
+}
@@ -0,0 +1,57 @@
+package br.com.itau.frameworkAutomacaoHub.core.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Índice compartilhado das linhas dos arquivos {@code .feature}. Cada arquivo é
+ * lido uma única vez e as linhas ficam disponíveis para todos os cenários e
+ * threads.
+ */
+public class FeatureFileIndex {
+
+	private static final Map<Path, String[]> index = new ConcurrentHashMap<>();
+
+	private FeatureFileIndex() { }
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna todas as linhas indexadas do arquivo
+	 * {@code .feature}.
+	 *
+	 * @param uri é a {@link String uri} do arquivo.
+	 * @return {@link String linhas} do arquivo.
+	 * @throws IOException caso não seja possível ler o arquivo.
+	 */
+	public static String[] getLines(String uri) throws IOException {
+		Path path = Paths.get(uri.replace("file:", "")).toAbsolutePath().normalize();
+		try {
+			return index.computeIfAbsent(path, FeatureFileIndex::read);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	private static String[] read(Path path) {
+		List<String> lines = new ArrayList<>();
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lines.add(line);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return lines.toArray(new String[0]);
+	}
+}
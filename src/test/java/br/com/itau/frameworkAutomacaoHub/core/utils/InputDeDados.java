@@ -1,15 +1,22 @@
 package br.com.itau.frameworkAutomacaoHub.core.utils;
 
+/**
+ * @deprecated utilize o {@link ScenarioContext}, que também disponibiliza as
+ *             colunas da linha de dados.
+ */
+@Deprecated
 public class InputDeDados {
 	
-	private static String input;
-	
 	public static String getInput() {
-		return input;
+		return ScenarioContext.current().getRawInput();
 	}
 
 	public static void setInput(String inputDados) {
-		input = inputDados;
+		ScenarioContext.of(inputDados);
+	}
+
+	public static void clear() {
+		ScenarioContext.clear();
 	}
 
 }
@@ -0,0 +1,188 @@
+package br.com.itau.frameworkAutomacaoHub.core.utils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Massa de dados do cenário em execução. Cada thread possui o seu próprio
+ * contexto, criado no {@code HookBefore} e descartado ao fim do cenário, de
+ * forma que execuções paralelas não compartilham a linha de dados.
+ * <p>
+ * Quando o cenário vem de uma tabela de Examples, as colunas da linha ficam
+ * disponíveis pelo índice ou pelo nome do cabeçalho.
+ *
+ * @see FeatureFileIndex
+ */
+public final class ScenarioContext {
+
+	private static final ScenarioContext EMPTY = new ScenarioContext(null, null, Collections.emptyList(), Collections.emptyList());
+
+	private static final ThreadLocal<ScenarioContext> current = new ThreadLocal<>();
+
+	private final String name;
+	private final String rawInput;
+	private final List<String> columns;
+	private final Map<String, String> values;
+
+	private ScenarioContext(String name, String rawInput, List<String> header, List<String> columns) {
+		this.name = name;
+		this.rawInput = rawInput;
+		this.columns = Collections.unmodifiableList(columns);
+
+		Map<String, String> values = new LinkedHashMap<>();
+		for (int i = 0; i < header.size() && i < columns.size(); i++) {
+			values.put(header.get(i), columns.get(i));
+		}
+		this.values = Collections.unmodifiableMap(values);
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> cria o contexto da thread atual a partir da linha
+	 * do cenário no arquivo {@code .feature}.
+	 *
+	 * @param name é o {@link String nome} do cenário.
+	 * @param uri  é a {@link String uri} do arquivo {@code .feature}.
+	 * @param line é a {@link Integer linha} do cenário.
+	 * @return {@link ScenarioContext contexto} criado.
+	 * @throws IOException caso não seja possível ler o arquivo.
+	 */
+	public static ScenarioContext start(String name, String uri, int line) throws IOException {
+		String[] lines = FeatureFileIndex.getLines(uri);
+		String raw = (line >= 1 && line <= lines.length) ? lines[line - 1] : null;
+
+		List<String> header = Collections.emptyList();
+		List<String> columns = Collections.emptyList();
+		if (isTableRow(raw)) {
+			columns = parseRow(raw);
+			int first = line - 1;
+			while (first > 0 && isTableRow(lines[first - 1])) {
+				first--;
+			}
+			if (first < line - 1)
+				header = parseRow(lines[first]);
+		}
+
+		return set(new ScenarioContext(name, raw, header, columns));
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> cria o contexto da thread atual apenas com a linha
+	 * de dados informada.
+	 *
+	 * @param rawInput é a {@link String linha} de dados.
+	 * @return {@link ScenarioContext contexto} criado.
+	 */
+	public static ScenarioContext of(String rawInput) {
+		List<String> columns = isTableRow(rawInput) ? parseRow(rawInput) : Collections.emptyList();
+		return set(new ScenarioContext(null, rawInput, Collections.emptyList(), columns));
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> retorna o contexto da thread atual, ou um contexto
+	 * vazio caso nenhum cenário esteja em execução.
+	 *
+	 * @return {@link ScenarioContext contexto}
+	 */
+	public static ScenarioContext current() {
+		ScenarioContext context = current.get();
+		return context != null ? context : EMPTY;
+	}
+
+	public static void clear() {
+		current.remove();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getRawInput() {
+		return rawInput;
+	}
+
+	public List<String> getColumns() {
+		return columns;
+	}
+
+	public Map<String, String> getValues() {
+		return values;
+	}
+
+	public boolean has(String column) {
+		return values.containsKey(column);
+	}
+
+	public String get(int index) {
+		return (index >= 0 && index < columns.size()) ? columns.get(index) : null;
+	}
+
+	public String get(String column) {
+		return values.get(column);
+	}
+
+	public Integer getInt(String column) {
+		String value = get(column);
+		return isBlank(value) ? null : Integer.valueOf(value);
+	}
+
+	public Long getLong(String column) {
+		String value = get(column);
+		return isBlank(value) ? null : Long.valueOf(value);
+	}
+
+	public BigDecimal getDecimal(String column) {
+		String value = get(column);
+		return isBlank(value) ? null : new BigDecimal(value.replace(",", "."));
+	}
+
+	public Boolean getBoolean(String column) {
+		String value = get(column);
+		return isBlank(value) ? null : Boolean.valueOf(value);
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(rawInput);
+	}
+
+	private static ScenarioContext set(ScenarioContext context) {
+		current.set(context);
+		return context;
+	}
+
+	private static boolean isTableRow(String line) {
+		return line != null && line.trim().startsWith("|");
+	}
+
+	private static boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+
+	private static List<String> parseRow(String line) {
+		List<String> cells = new ArrayList<>();
+		String row = line.trim();
+		StringBuilder cell = new StringBuilder();
+		for (int i = 1; i < row.length(); i++) {
+			char c = row.charAt(i);
+			if (c == '\\' && i + 1 < row.length()) {
+				char escaped = row.charAt(++i);
+				cell.append(escaped == 'n' ? '\n' : escaped);
+			} else if (c == '|') {
+				cells.add(cell.toString().trim());
+				cell.setLength(0);
+			} else {
+				cell.append(c);
+			}
+		}
+		return cells;
+	}
+}
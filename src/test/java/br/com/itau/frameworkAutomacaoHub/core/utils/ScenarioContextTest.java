@@ -0,0 +1,90 @@
+package br.com.itau.frameworkAutomacaoHub.core.utils;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * <p>
+ * Testes da leitura da linha de dados do {@link ScenarioContext contexto do
+ * cenário}.
+ */
+public class ScenarioContextTest {
+
+	private static final String FEATURE = String.join("\n",
+			"Funcionalidade: Login",
+			"",
+			"  Esquema do Cenário: Acesso",
+			"    Dado que acesso com <usuario>",
+			"",
+			"    Exemplos:",
+			"      | usuario | senha   | saldo  | ativo |",
+			"      | maria   | a\\|b    | 10,50  | true  |",
+			"      | joão    | c\\nd    |        | false |");
+
+	@AfterMethod(alwaysRun = true)
+	public void clear() {
+		ScenarioContext.clear();
+	}
+
+	@Test
+	public void parsesCellsAndEscapes() {
+		ScenarioContext context = ScenarioContext.of("  | a |  b c | d\\|e | f\\\\g | h\\ni |  ");
+
+		assertEquals(context.getColumns(), List.of("a", "b c", "d|e", "f\\g", "h\ni"));
+		assertEquals(context.get(1), "b c");
+		assertNull(context.get(5));
+		assertTrue(context.getValues().isEmpty());
+	}
+
+	@Test
+	public void keepsEmptyCells() {
+		assertEquals(ScenarioContext.of("| | x ||").getColumns(), List.of("", "x", ""));
+	}
+
+	@Test
+	public void ignoresLinesOutsideTables() {
+		ScenarioContext context = ScenarioContext.of("Dado que acesso a página");
+
+		assertTrue(context.getColumns().isEmpty());
+		assertEquals(context.getRawInput(), "Dado que acesso a página");
+		assertEquals(ScenarioContext.current(), context);
+	}
+
+	@Test
+	public void mapsExampleRowToHeader() throws IOException {
+		Path feature = Files.createTempFile("scenario-context", ".feature");
+		try {
+			Files.write(feature, FEATURE.getBytes(StandardCharsets.UTF_8));
+
+			ScenarioContext first = ScenarioContext.start("Acesso", feature.toUri().toString(), 8);
+			assertEquals(first.get("usuario"), "maria");
+			assertEquals(first.get("senha"), "a|b");
+			assertEquals(first.getDecimal("saldo"), new BigDecimal("10.50"));
+			assertTrue(first.getBoolean("ativo"));
+
+			ScenarioContext second = ScenarioContext.start("Acesso", feature.toUri().toString(), 9);
+			assertEquals(second.get("usuario"), "joão");
+			assertEquals(second.get("senha"), "c\nd");
+			assertNull(second.getDecimal("saldo"));
+			assertFalse(second.getBoolean("ativo"));
+			assertFalse(second.has("idade"));
+
+			ScenarioContext step = ScenarioContext.start("Acesso", feature.toUri().toString(), 3);
+			assertTrue(step.getColumns().isEmpty());
+		} finally {
+			Files.deleteIfExists(feature);
+		}
+	}
+}
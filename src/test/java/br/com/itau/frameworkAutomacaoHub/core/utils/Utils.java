@@ -1,25 +1,17 @@
 package br.com.itau.frameworkAutomacaoHub.core.utils;
 
-import static br.com.itau.frameworkAutomacaoHub.enums.ExceptionsMessages.IO_EXCEPTION;
-
 import java.io.File;
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Properties;
 
-import javax.imageio.ImageIO;
-
 import org.openqa.selenium.WebDriver;
 
-import br.com.itau.frameworkAutomacaoHub.core.interaction.Interactions;
 import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
 import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
-import ru.yandex.qatools.ashot.AShot;
-import ru.yandex.qatools.ashot.Screenshot;
-import ru.yandex.qatools.ashot.shooting.ShootingStrategies;
+import br.com.itau.frameworkAutomacaoHub.core.screenshot.ScreenshotStrategy;
 
 public class Utils {
 
@@ -29,27 +21,15 @@ public class Utils {
 	private static final Logger log = LoggerFactory.getLogger(Utils.class.getSimpleName());
 
 	public static void fullPageScreenshot(String path, String nome, WebDriver driver) {
-		log.core(String.format("Método: fullPageScreenshot() - Tirando Screenshot do arquivo %s", nome));
-
-		try {
-			new Interactions().frameDefault();
-			Screenshot screenshot = new AShot()
-					.shootingStrategy(
-							ShootingStrategies
-							.viewportPasting(1000)
-					).takeScreenshot(driver);
-
-			ImageIO.write(
-					screenshot.getImage(),
-					"PNG",
-					new File(String.format("%s_%s.png", path, nome))
-			);
-			log.core(String.format("Salvando a Printscreen no Caminho %s", path));
-			log.core(String.format("O nome da Printscreen é %s", nome));
-
-		} catch (IOException e) {
-			IO_EXCEPTION.getException(e, "");
-		}
+		log.core("Método: fullPageScreenshot() - Tirando Screenshot do arquivo %s", nome);
+
+		takeScreenshot(ScreenshotStrategy.FULL_PAGE, path, nome, driver);
+	}
+
+	public static void takeScreenshot(ScreenshotStrategy strategy, String path, String nome, WebDriver driver) {
+		strategy.capture(driver, new File(String.format("%s_%s.png", path, nome)));
+		log.core("Salvando a Printscreen no Caminho %s", path);
+		log.core("O nome da Printscreen é %s", nome);
 	}
 
 	public static String formatter() {
@@ -88,31 +68,22 @@ public class Utils {
 	}
 
 	public static Properties getProperties(){
-		Properties props = new Properties();
-
-		String fileName = "options.properties";
-
-		try {
-			log.core("Fazendo leitura da properties");
-			props.load(Utils.class.getClassLoader().getResourceAsStream(fileName));
-		} catch (IOException e) {
-			log.error("Erro ao tentar ler as propriedades");
-			e.printStackTrace();
-		}
-
-		return props;
+		return Configuration.get().getFileProperties();
 	}
 
 	public static boolean getOption(String property){
-		return Boolean.parseBoolean( System.getenv( property ) )
-				||
-				Boolean.parseBoolean( Utils.getProperties().getProperty( property ) );
+		return Configuration.get().getBoolean( property );
 	}
 
 	public static String getValueProps(String property){
-		if (System.getenv(property) != null)
-			return System.getenv( property );
+		return Configuration.get().getString( property );
+	}
+
+	public static String getValueProps(String property, String defaultValue){
+		return Configuration.get().getString( property, defaultValue );
+	}
 
-		return Utils.getProperties().getProperty( property );
+	public static int getIntProps(String property, int defaultValue){
+		return Configuration.get().getInt( property, defaultValue );
 	}
 }
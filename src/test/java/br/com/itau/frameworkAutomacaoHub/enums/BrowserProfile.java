@@ -0,0 +1,93 @@
+package br.com.itau.frameworkAutomacaoHub.enums;
+
+import java.util.List;
+import java.util.Locale;
+
+import br.com.itau.frameworkAutomacaoHub.core.BrowserOptions;
+import br.com.itau.frameworkAutomacaoHub.core.Properties;
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+
+/**
+ * <p>
+ * Perfis de desempenho aplicados pelo {@link BrowserOptions}, selecionados pela
+ * propriedade {@code PROFILE} (ex.: {@code PROFILE=fast-ci}).
+ */
+public enum BrowserProfile {
+
+	/** Mantém as opções originais de cada navegador. */
+	DEFAULT(false, false, false, List.of()),
+
+	/**
+	 * Perfil para execução em CI: novo modo headless, sem redução de prioridade
+	 * de abas em segundo plano, sem imagens e fontes e sem domínios de análise.
+	 */
+	FAST_CI(true, true, true, List.of(
+			"*google-analytics.com*",
+			"*googletagmanager.com*",
+			"*doubleclick.net*",
+			"*hotjar.com*",
+			"*connect.facebook.net*",
+			"*clarity.ms*",
+			"*.woff*",
+			"*.ttf*",
+			"*.otf*"));
+
+	private static final Logger log = LoggerFactory.getLogger(BrowserProfile.class.getSimpleName());
+
+	private final boolean newHeadless;
+	private final boolean noThrottling;
+	private final boolean blockMedia;
+	private final List<String> blockedUrls;
+
+	BrowserProfile(boolean newHeadless, boolean noThrottling, boolean blockMedia, List<String> blockedUrls) {
+		this.newHeadless = newHeadless;
+		this.noThrottling = noThrottling;
+		this.blockMedia = blockMedia;
+		this.blockedUrls = blockedUrls;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> converte o nome do perfil, aceitando hífen no
+	 * lugar do sublinhado ({@code fast-ci}).
+	 *
+	 * @param name é o {@link String nome} do perfil.
+	 * @return {@link BrowserProfile perfil}, {@link #DEFAULT} caso o nome esteja
+	 *         vazio ou não exista.
+	 */
+	public static BrowserProfile of(String name) {
+		if (name == null || name.isBlank())
+			return DEFAULT;
+
+		try {
+			return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			log.error("Perfil inválido na propriedade PROFILE: %s, usando DEFAULT", name);
+			return DEFAULT;
+		}
+	}
+
+	public boolean isNewHeadless() {
+		return newHeadless;
+	}
+
+	public boolean isNoThrottling() {
+		return noThrottling;
+	}
+
+	public boolean isBlockMedia() {
+		return blockMedia;
+	}
+
+	/**
+	 * <p>
+	 * <strong>Função:</strong> padrões de URL bloqueados, com {@code *} como
+	 * curinga. A propriedade {@code BLOCKED_URLS} substitui a lista do perfil.
+	 *
+	 * @return {@link List lista} de padrões.
+	 */
+	public List<String> getBlockedUrls() {
+		return Properties.BLOCKED_URLS.isEmpty() ? blockedUrls : Properties.BLOCKED_URLS;
+	}
+}
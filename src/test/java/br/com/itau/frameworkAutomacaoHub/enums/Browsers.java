@@ -4,9 +4,7 @@ import static br.com.itau.frameworkAutomacaoHub.core.BrowserOptions.chromeOption
 import static br.com.itau.frameworkAutomacaoHub.core.BrowserOptions.edgeOptions;
 import static br.com.itau.frameworkAutomacaoHub.core.BrowserOptions.firefoxOptions;
 import static br.com.itau.frameworkAutomacaoHub.core.BrowserOptions.operaOptions;
-
-import java.net.MalformedURLException;
-import java.net.URL;
+import static br.com.itau.frameworkAutomacaoHub.core.BrowserOptions.remoteFirefoxOptions;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
@@ -15,65 +13,65 @@ import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.opera.OperaDriver;
 import org.openqa.selenium.remote.CapabilityType;
-import org.openqa.selenium.remote.DesiredCapabilities;
-import org.openqa.selenium.remote.RemoteWebDriver;
 
+import br.com.itau.frameworkAutomacaoHub.core.DriverBinaries;
+import br.com.itau.frameworkAutomacaoHub.core.GridBalancer;
 import br.com.itau.frameworkAutomacaoHub.core.Properties;
-import br.com.itau.frameworkAutomacaoHub.core.exceptions.GridException;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import br.com.itau.frameworkAutomacaoHub.core.RunConfig;
 
 public enum Browsers {
 	
 	CHROME {
 		@Override
-		public WebDriver newDriver(boolean headless) {
-			if (Properties.GRID) {
-				DesiredCapabilities capabilities = DesiredCapabilities.chrome();
-				capabilities.setCapability(CapabilityType.ACCEPT_SSL_CERTS, true);
-				capabilities.setCapability(CapabilityType.ACCEPT_INSECURE_CERTS, true);
-				try {
-					return new RemoteWebDriver(new URL("http://localhost:4444/wd/hub"), capabilities);
-				} catch (MalformedURLException e) {
-					throw new GridException("Problemas com o Selenium grid");
-				}
+		public WebDriver newDriver(RunConfig config) {
+			if (config.isGrid()) {
+				ChromeOptions options = chromeOptions(config.isHeadless());
+				options.setCapability(CapabilityType.ACCEPT_SSL_CERTS, true);
+				options.setCapability(CapabilityType.ACCEPT_INSECURE_CERTS, true);
+				return GridBalancer.newSession(options);
 			} else {
-				WebDriverManager.chromedriver().setup();
-				return new ChromeDriver(chromeOptions(headless));				
+				DriverBinaries.resolve(this);
+				return new ChromeDriver(chromeOptions(config.isHeadless()));				
 			}
 		}
 	},
 	FIREFOX {
 		@Override
-		public WebDriver newDriver(boolean headless) {
-			if (Properties.GRID) {
-				DesiredCapabilities capabilities = DesiredCapabilities.firefox();
-				try {
-					return new RemoteWebDriver(new URL("http://localhost:4444/wd/hub"), capabilities);
-				} catch (MalformedURLException e) {
-					throw new GridException("Problemas com o Selenium grid");
-				}
+		public WebDriver newDriver(RunConfig config) {
+			if (config.isGrid()) {
+				return GridBalancer.newSession(remoteFirefoxOptions(config.isHeadless()));
 			} else {
-				WebDriverManager.firefoxdriver().setup();
-				return new FirefoxDriver(firefoxOptions(headless));				
+				DriverBinaries.resolve(this);
+				return new FirefoxDriver(firefoxOptions(config.isHeadless()));				
 			}
 		}
 	},
 	
 	EDGE {
 		@Override
-		public WebDriver newDriver(boolean headless) {
-			WebDriverManager.edgedriver().setup();
-			return new EdgeDriver(edgeOptions(headless));
+		public WebDriver newDriver(RunConfig config) {
+			if (config.isGrid())
+				return GridBalancer.newSession(edgeOptions(config.isHeadless()));
+
+			DriverBinaries.resolve(this);
+			return new EdgeDriver(edgeOptions(config.isHeadless()));
 		}
 	},
 
 	OPERA {
 		@Override
-		public WebDriver newDriver(boolean headless) {
-			WebDriverManager.operadriver().setup();
-			return new OperaDriver(operaOptions(headless));
+		public WebDriver newDriver(RunConfig config) {
+			if (config.isGrid())
+				return GridBalancer.newSession(operaOptions(config.isHeadless()));
+
+			DriverBinaries.resolve(this);
+			return new OperaDriver(operaOptions(config.isHeadless()));
 		}
 	};
 
-    public abstract WebDriver newDriver(boolean headless);
+	public WebDriver newDriver(boolean headless) {
+		return newDriver(new RunConfig(Properties.CLOSE, headless, Properties.GRID, this));
+	}
+
+	public abstract WebDriver newDriver(RunConfig config);
 }
@@ -2,13 +2,20 @@ package br.com.itau.frameworkAutomacaoHub.execute.hooks;
 
 import static br.com.itau.frameworkAutomacaoHub.core.DriverFactory.getDriver;
 import static br.com.itau.frameworkAutomacaoHub.core.DriverFactory.killDriver;
+import static br.com.itau.frameworkAutomacaoHub.core.DriverFactory.recycleIfNeeded;
+import static br.com.itau.frameworkAutomacaoHub.core.DriverFactory.resetDriver;
 import static br.com.itau.frameworkAutomacaoHub.core.utils.Utils.formatter;
-import static br.com.itau.frameworkAutomacaoHub.core.utils.Utils.fullPageScreenshot;
 import static br.com.itau.frameworkAutomacaoHub.core.utils.Utils.pathScreenshot;
+import static br.com.itau.frameworkAutomacaoHub.core.utils.Utils.takeScreenshot;
 
 import java.io.File;
 
+import br.com.itau.frameworkAutomacaoHub.core.DriverPool;
 import br.com.itau.frameworkAutomacaoHub.core.Properties;
+import br.com.itau.frameworkAutomacaoHub.core.RunConfig;
+import br.com.itau.frameworkAutomacaoHub.core.report.ThreadUtilization;
+import br.com.itau.frameworkAutomacaoHub.core.screenshot.ScreenshotStrategy;
+import br.com.itau.frameworkAutomacaoHub.core.utils.ScenarioContext;
 import io.cucumber.core.api.Scenario;
 import io.cucumber.java.After;
 
@@ -17,16 +24,42 @@ public class HookAfter {
 	@After(order = 1)
 	public void screenshot(Scenario scenario) {
 
-		String nome = String.format("%s_%s", scenario.getName().replace(" ", "_"), formatter()); 
+		ScreenshotStrategy strategy = Properties.EVIDENCE.strategyFor(scenario.isFailed(), Properties.SCREENSHOT);
+		if (strategy == ScreenshotStrategy.NONE)
+			return;
+
+		String nome = String.format("%s_%s_%d", scenario.getName().replace(" ", "_"), formatter(), Thread.currentThread().getId()); 
 		String evidencia = (!scenario.isFailed()) ? evidencia = "sucesso" : "erro";
 		String caminho = pathScreenshot() + evidencia + File.separator;
 
-		fullPageScreenshot(caminho, nome, getDriver());
+		takeScreenshot(strategy, caminho, nome, getDriver());
 	}
 
+	/**
+	 * <p>
+	 * Com {@code CONTEXT_RESET=true} o navegador tem o contexto limpo e é
+	 * reaproveitado no próximo cenário, mesmo com {@code CLOSE=true}; nesse caso
+	 * ele é encerrado ao final da execução. Com o pool habilitado e
+	 * {@code CLOSE=true} o navegador é devolvido ao pool, que faz a mesma
+	 * limpeza.
+	 * <p>
+	 * Navegadores mantidos entre cenários são reciclados ao atingir os limites
+	 * do {@code DriverRecycler}.
+	 */
 	@After(order = 0)
 	public void finalizar() {
-		if (Properties.CLOSE)
+		RunConfig config = RunConfig.current();
+		if (config.isClose() && (DriverPool.isEnabled() || !Properties.CONTEXT_RESET))
 			killDriver();
+		else if (Properties.CONTEXT_RESET)
+			resetDriver();
+		else
+			recycleIfNeeded();
+	}
+
+	@After(order = -1)
+	public void finalizarMedicao() {
+		ScenarioContext.clear();
+		ThreadUtilization.stop();
 	}
 }
@@ -1,19 +1,41 @@
 package br.com.itau.frameworkAutomacaoHub.execute.runners;
 
-import io.cucumber.junit.Cucumber;
-import io.cucumber.junit.CucumberOptions;
-import io.cucumber.junit.CucumberOptions.SnippetType;
-import org.junit.BeforeClass;
-import org.junit.runner.RunWith;
+import org.testng.ITestContext;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
 
+import br.com.itau.frameworkAutomacaoHub.core.DriverPool;
+import br.com.itau.frameworkAutomacaoHub.core.Properties;
+import br.com.itau.frameworkAutomacaoHub.core.RunConfig;
+import br.com.itau.frameworkAutomacaoHub.core.log.Logger;
+import br.com.itau.frameworkAutomacaoHub.core.log.LoggerFactory;
+import br.com.itau.frameworkAutomacaoHub.core.report.RunReport;
+import br.com.itau.frameworkAutomacaoHub.core.screenshot.ScreenshotPipeline;
 import br.com.itau.frameworkAutomacaoHub.core.utils.Utils;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberFeatureWrapper;
+import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.CucumberOptions.SnippetType;
+import io.cucumber.testng.PickleEventWrapper;
 
-@RunWith(Cucumber.class)
+/**
+ * <p>
+ * Runner TestNG dos cenários. Cada cenário roda em uma thread com o seu
+ * próprio driver (ver {@code DriverFactory}).
+ * <p>
+ * Com {@code PARALLEL=true} são utilizadas {@code THREADS} threads; caso
+ * contrário os cenários rodam em uma única thread.
+ * <p>
+ * Subclasses anotadas com {@code @PropertiesTest} executam os seus cenários
+ * com o navegador configurado na anotação.
+ */
 @CucumberOptions(features = "src/test/resources/features",
-        glue = "br.com.cyber.frameworkSinistro.execute",
-        
+        glue = "br.com.itau.frameworkAutomacaoHub.execute",
+
         tags = "",
-        
+
         plugin = {
                 "com.aventstack.extentreports.cucumber.adapter.ExtentCucumberAdapter:",
                 "json:target/evidencias/json/report.json",
@@ -22,12 +44,39 @@ import br.com.itau.frameworkAutomacaoHub.core.utils.Utils;
         dryRun = false,
         strict = true
 )
+public class RunnerTest extends AbstractTestNGCucumberTests {
+
+    private static final Logger log = LoggerFactory.getLogger(RunnerTest.class.getSimpleName());
 
-public class RunnerTest {
+    @BeforeClass(alwaysRun = true)
+    public void configureThreads(ITestContext context) {
+        int threads = Properties.PARALLEL ? Math.max(Properties.THREADS, 1) : 1;
+        log.core("Executando os cenários com %d thread(s).", threads);
+        context.getCurrentXmlTest().getSuite().setDataProviderThreadCount(threads);
 
-    @BeforeClass
-    public static void screenshotFileCheck() {
         Utils.createFiles();
         Utils.deleteFiles();
+
+        if (DriverPool.isEnabled())
+            DriverPool.getInstance(RunConfig.from(getClass()));
+    }
+
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return super.scenarios();
+    }
+
+    @Override
+    @Test(groups = "cucumber", description = "Runs Cucumber Scenarios", dataProvider = "scenarios")
+    public void runScenario(PickleEventWrapper pickleWrapper, CucumberFeatureWrapper featureWrapper) throws Throwable {
+        RunConfig.bind(RunConfig.from(getClass()));
+        super.runScenario(pickleWrapper, featureWrapper);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void publishReport() {
+        ScreenshotPipeline.getInstance().flush();
+        RunReport.publish();
     }
 }